@@ -0,0 +1,147 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.DoubleSummaryStatistics;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+
+/**
+ * allocation benchmark runner.
+ * Runs the in-place scalar operations of the elementwise benchmark
+ * with the GC profiler and reports the allocated bytes per operation,
+ * the allocation must not depend on the structure size, so the runner
+ * fails if the allocation between the smallest and largest structure
+ * differs more than a tolerance, all JMH command-line options can be
+ * used to change the benchmarks or parameters
+ *
+ * {@code java -cp target/benchmarks.jar org.lightjason.agentspeak.action.blas.benchmark.CAllocation -p m_size=16,4096}
+ */
+public final class CAllocation
+{
+    /**
+     * default benchmarks
+     */
+    private static final String BENCHMARKS = CBenchmarkElementWise.class.getName() + "\\.(matrix|vector)scalar";
+    /**
+     * allocation result of the GC profiler
+     */
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+    /**
+     * parameter of the structure size
+     */
+    private static final String SIZE = "m_size";
+    /**
+     * allowed allocation difference in bytes between the structure sizes
+     */
+    private static final double TOLERANCE = 1024;
+
+    /**
+     * ctor
+     */
+    private CAllocation()
+    {
+    }
+
+    /**
+     * main method
+     *
+     * @param p_args command-line arguments
+     * @throws CommandLineOptionException on argument error
+     * @throws RunnerException on benchmark error
+     */
+    public static void main( final String[] p_args ) throws CommandLineOptionException, RunnerException
+    {
+        final CommandLineOptions l_options = new CommandLineOptions( p_args );
+        final ChainedOptionsBuilder l_builder = new OptionsBuilder().parent( l_options ).addProfiler( GCProfiler.class );
+
+        if ( l_options.getIncludes().isEmpty() )
+            l_builder.include( BENCHMARKS );
+
+        if ( !l_options.getParameter( "m_operator" ).hasValue() )
+            l_builder.param( "m_operator", "+=", "-=" );
+
+        if ( !l_options.getParameter( SIZE ).hasValue() )
+            l_builder.param( SIZE, "16", "1024" );
+
+        final Map<String, DoubleSummaryStatistics> l_allocation = CAllocation.allocation( new Runner( l_builder.build() ).run() );
+
+        System.out.println();
+        System.out.println( "allocation in bytes per operation (min / max over " + SIZE + ")" );
+        l_allocation.forEach( ( i, j ) -> System.out.println( String.format(
+            "%s  %.1f / %.1f  %s", i, j.getMin(), j.getMax(), j.getMax() - j.getMin() > TOLERANCE ? "depends on size" : "ok"
+        ) ) );
+
+        if ( l_allocation.values().stream().anyMatch( i -> i.getMax() - i.getMin() > TOLERANCE ) )
+            System.exit( 1 );
+    }
+
+    /**
+     * groups the allocation of the results by the benchmark
+     * and all parameters except the structure size
+     *
+     * @param p_results benchmark results
+     * @return allocation statistic of each group
+     */
+    @Nonnull
+    private static Map<String, DoubleSummaryStatistics> allocation( @Nonnull final Collection<RunResult> p_results )
+    {
+        return p_results.stream()
+                        .filter( i -> i.getSecondaryResults().containsKey( ALLOCATION ) )
+                        .collect( Collectors.groupingBy(
+                            CAllocation::group,
+                            TreeMap::new,
+                            Collectors.summarizingDouble( i -> i.getSecondaryResults().get( ALLOCATION ).getScore() )
+                        ) );
+    }
+
+    /**
+     * returns the group name of a result
+     *
+     * @param p_result benchmark result
+     * @return benchmark name with all parameters except the structure size
+     */
+    @Nonnull
+    private static String group( @Nonnull final RunResult p_result )
+    {
+        return p_result.getParams().getParamsKeys()
+                       .stream()
+                       .filter( i -> !SIZE.equals( i ) )
+                       .map( i -> " " + i + "=" + p_result.getParams().getParam( i ) )
+                       .collect( Collectors.joining( "", p_result.getParams().getBenchmark(), "" ) );
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.CElementWise;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+
+/**
+ * benchmark of elementwise operations.
+ * The allocation of the scalar operations can be checked with the
+ * GC profiler, gc.alloc.rate.norm of the in-place operators must
+ * not depend on the structure size, the allocation runner executes
+ * this check
+ *
+ * {@code java -jar target/benchmarks.jar CBenchmarkElementWise.matrixscalar -p m_operator=+=,-= -prof gc}
+ *
+ * @see CAllocation
+ */
+public class CBenchmarkElementWise extends IBaseBenchmark
+{
+    /**
+     * scalar value
+     */
+    private static final double SCALAR = 0.5;
+    /**
+     * operator
+     */
+    @Param( { "+", "|+|", "-", "*", "/", "+=", "-=" } )
+    public String m_operator;
+    /**
+     * action
+     */
+    private final IAction m_action = new CElementWise();
+    /**
+     * matrix-matrix arguments
+     */
+    private List<ITerm> m_matrixmatrix;
+    /**
+     * matrix-scalar arguments
+     */
+    private List<ITerm> m_matrixscalar;
+    /**
+     * vector-vector arguments
+     */
+    private List<ITerm> m_vectorvector;
+    /**
+     * vector-scalar arguments
+     */
+    private List<ITerm> m_vectorscalar;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        m_matrixmatrix = arguments( this.randommatrix(), m_operator, this.randommatrix() );
+        m_matrixscalar = arguments( this.randommatrix(), m_operator, SCALAR );
+        m_vectorvector = arguments( this.randomvector(), m_operator, this.randomvector() );
+        m_vectorscalar = arguments( this.randomvector(), m_operator, SCALAR );
+    }
+
+    /**
+     * matrix with matrix
+     *
+     * @return result
+     */
+    @Benchmark
+    public List<ITerm> matrixmatrix()
+    {
+        return execute( m_action, m_matrixmatrix );
+    }
+
+    /**
+     * matrix with scalar
+     *
+     * @return result
+     */
+    @Benchmark
+    public List<ITerm> matrixscalar()
+    {
+        return execute( m_action, m_matrixscalar );
+    }
+
+    /**
+     * vector with vector
+     *
+     * @return result
+     */
+    @Benchmark
+    public List<ITerm> vectorvector()
+    {
+        return execute( m_action, m_vectorvector );
+    }
+
+    /**
+     * vector with scalar
+     *
+     * @return result
+     */
+    @Benchmark
+    public List<ITerm> vectorscalar()
+    {
+        return execute( m_action, m_vectorscalar );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.CElementWise;
+import org.lightjason.agentspeak.action.blas.CExpression;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+
+/**
+ * benchmark of the fused expression against
+ * the equivalent chain of elementwise operations
+ *
+ * {@code java -jar target/benchmarks.jar CBenchmarkExpression -prof gc}
+ */
+public class CBenchmarkExpression extends IBaseBenchmark
+{
+    /**
+     * expression
+     */
+    private static final String EXPRESSION = "A * 2 + B - C / 3";
+    /**
+     * expression action
+     */
+    private final IAction m_expression = new CExpression();
+    /**
+     * elementwise action
+     */
+    private final IAction m_elementwise = new CElementWise();
+    /**
+     * expression arguments
+     */
+    private List<ITerm> m_fused;
+    /**
+     * first matrix
+     */
+    private Object m_lhs;
+    /**
+     * second matrix
+     */
+    private Object m_mid;
+    /**
+     * third matrix
+     */
+    private Object m_rhs;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        m_lhs = this.randommatrix();
+        m_mid = this.randommatrix();
+        m_rhs = this.randommatrix();
+        m_fused = arguments( EXPRESSION, m_lhs, m_mid, m_rhs );
+    }
+
+    /**
+     * fused expression
+     *
+     * @return result
+     */
+    @Benchmark
+    public List<ITerm> fused()
+    {
+        return execute( m_expression, m_fused );
+    }
+
+    /**
+     * chain of elementwise operations
+     *
+     * @return result
+     */
+    @Benchmark
+    public Object chained()
+    {
+        final Object l_scaled = execute( m_elementwise, arguments( m_lhs, "*", 2 ) ).get( 0 ).raw();
+        final Object l_sum = execute( m_elementwise, arguments( l_scaled, "+", m_mid ) ).get( 0 ).raw();
+        final Object l_divided = execute( m_elementwise, arguments( m_rhs, "/", 3 ) ).get( 0 ).raw();
+        return execute( m_elementwise, arguments( l_sum, "-", l_divided ) ).get( 0 ).raw();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+
+/**
+ * benchmark of all actions, which get a single matrix argument
+ */
+public class CBenchmarkMatrix extends IBaseBenchmark
+{
+    /**
+     * package of the actions
+     */
+    private static final String PACKAGE = "org.lightjason.agentspeak.action.blas.";
+    /**
+     * action class relative to the blas package
+     */
+    @Param( {
+        "CSize",
+        "matrix.CColumns",
+        "matrix.CColumnSum",
+        "matrix.CCondition",
+        "matrix.CCopy",
+        "matrix.CDeterminant",
+        "matrix.CDimension",
+        "matrix.CEigen",
+        "matrix.CGraphLaplacian",
+        "matrix.CInfinityNorm",
+        "matrix.CInvert",
+        "matrix.CMatrixNorm",
+        "matrix.CNonZero",
+        "matrix.CNormalizedGraphLaplacian",
+        "matrix.COneNorm",
+        "matrix.CRank",
+        "matrix.CRows",
+        "matrix.CRowSum",
+        "matrix.CSingularValue",
+        "matrix.CSum",
+        "matrix.CToList",
+        "matrix.CTrace",
+        "matrix.CTranspose",
+        "matrix.CTwoNorm"
+    } )
+    public String m_action;
+    /**
+     * action instance
+     */
+    private IAction m_instance;
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+
+    /**
+     * initialize the action and input structure
+     *
+     * @throws ClassNotFoundException is thrown on unknown action
+     * @throws NoSuchMethodException is thrown on instantiation error
+     * @throws InstantiationException is thrown on instantiation error
+     * @throws IllegalAccessException is thrown on instantiation error
+     * @throws InvocationTargetException is thrown on instantiation error
+     */
+    @Setup
+    public void initialize() throws ClassNotFoundException, NoSuchMethodException, InstantiationException,
+                                    IllegalAccessException, InvocationTargetException
+    {
+        m_instance = (IAction) Class.forName( PACKAGE + m_action ).getConstructor().newInstance();
+        m_arguments = arguments( this.randommatrix() );
+    }
+
+    /**
+     * action execution
+     *
+     * @return action result
+     */
+    @Benchmark
+    public List<ITerm> execute()
+    {
+        return execute( m_instance, m_arguments );
+    }
+}
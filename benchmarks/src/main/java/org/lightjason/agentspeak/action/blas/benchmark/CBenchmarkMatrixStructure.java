@@ -0,0 +1,236 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.matrix.CAssign;
+import org.lightjason.agentspeak.action.blas.matrix.CColumn;
+import org.lightjason.agentspeak.action.blas.matrix.CCreate;
+import org.lightjason.agentspeak.action.blas.matrix.CDiagonal;
+import org.lightjason.agentspeak.action.blas.matrix.CGet;
+import org.lightjason.agentspeak.action.blas.matrix.CIdentity;
+import org.lightjason.agentspeak.action.blas.matrix.CLambdaStreaming;
+import org.lightjason.agentspeak.action.blas.matrix.CPower;
+import org.lightjason.agentspeak.action.blas.matrix.CRow;
+import org.lightjason.agentspeak.action.blas.matrix.CSet;
+import org.lightjason.agentspeak.action.blas.matrix.CSubMatrix;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+
+/**
+ * benchmark of matrix actions with structure and index arguments
+ */
+public class CBenchmarkMatrixStructure extends IBaseBenchmark
+{
+    /**
+     * assign action
+     */
+    private final IAction m_assign = new CAssign();
+    /**
+     * column action
+     */
+    private final IAction m_column = new CColumn();
+    /**
+     * create action
+     */
+    private final IAction m_create = new CCreate();
+    /**
+     * diagonal action
+     */
+    private final IAction m_diagonal = new CDiagonal();
+    /**
+     * get action
+     */
+    private final IAction m_get = new CGet();
+    /**
+     * identity action
+     */
+    private final IAction m_identity = new CIdentity();
+    /**
+     * power action
+     */
+    private final IAction m_power = new CPower();
+    /**
+     * row action
+     */
+    private final IAction m_row = new CRow();
+    /**
+     * set action
+     */
+    private final IAction m_set = new CSet();
+    /**
+     * submatrix action
+     */
+    private final IAction m_submatrix = new CSubMatrix();
+    /**
+     * lambda streaming
+     */
+    private final CLambdaStreaming m_lambda = new CLambdaStreaming();
+    /**
+     * matrix
+     */
+    private DoubleMatrix2D m_matrix;
+    /**
+     * vector
+     */
+    private DoubleMatrix1D m_vector;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        m_matrix = this.randommatrix();
+        m_vector = this.randomvector();
+    }
+
+    /**
+     * assign a scalar to all cells
+     *
+     * @return empty result
+     */
+    @Benchmark
+    public List<ITerm> assign()
+    {
+        return execute( m_assign, arguments( 1, m_matrix ) );
+    }
+
+    /**
+     * column extraction
+     *
+     * @return column
+     */
+    @Benchmark
+    public List<ITerm> column()
+    {
+        return execute( m_column, arguments( m_size / 2, m_matrix ) );
+    }
+
+    /**
+     * row extraction
+     *
+     * @return row
+     */
+    @Benchmark
+    public List<ITerm> row()
+    {
+        return execute( m_row, arguments( m_size / 2, m_matrix ) );
+    }
+
+    /**
+     * submatrix extraction
+     *
+     * @return submatrix
+     */
+    @Benchmark
+    public List<ITerm> submatrix()
+    {
+        return execute( m_submatrix, arguments( 0, m_size / 2, 0, m_size / 2, m_matrix ) );
+    }
+
+    /**
+     * matrix creation
+     *
+     * @return matrix
+     */
+    @Benchmark
+    public List<ITerm> create()
+    {
+        return execute( m_create, arguments( m_size, m_size, m_type.name() ) );
+    }
+
+    /**
+     * identity creation
+     *
+     * @return matrix
+     */
+    @Benchmark
+    public List<ITerm> identity()
+    {
+        return execute( m_identity, arguments( m_size, m_type.name() ) );
+    }
+
+    /**
+     * diagonal creation
+     *
+     * @return matrix
+     */
+    @Benchmark
+    public List<ITerm> diagonal()
+    {
+        return execute( m_diagonal, arguments( m_vector, m_type.name() ) );
+    }
+
+    /**
+     * single cell read
+     *
+     * @return value
+     */
+    @Benchmark
+    public List<ITerm> get()
+    {
+        return execute( m_get, arguments( m_matrix, m_size / 2, m_size / 2 ) );
+    }
+
+    /**
+     * single cell write
+     *
+     * @return empty result
+     */
+    @Benchmark
+    public List<ITerm> set()
+    {
+        return execute( m_set, arguments( m_size / 2, m_size / 2, 1, m_matrix ) );
+    }
+
+    /**
+     * matrix square
+     *
+     * @return matrix
+     */
+    @Benchmark
+    public List<ITerm> power()
+    {
+        return execute( m_power, arguments( 2, m_matrix ) );
+    }
+
+    /**
+     * streaming all cells
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void lambda( final Blackhole p_blackhole )
+    {
+        m_lambda.apply( m_matrix ).forEach( p_blackhole::consume );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.CMultiply;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+
+/**
+ * benchmark of matrix- / vector-products
+ */
+public class CBenchmarkMultiply extends IBaseBenchmark
+{
+    /**
+     * action
+     */
+    private final IAction m_action = new CMultiply();
+    /**
+     * matrix-matrix arguments
+     */
+    private List<ITerm> m_matrixmatrix;
+    /**
+     * matrix-vector arguments
+     */
+    private List<ITerm> m_matrixvector;
+    /**
+     * vector-vector arguments
+     */
+    private List<ITerm> m_vectorvector;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        final DoubleMatrix2D l_matrix = this.randommatrix();
+        final DoubleMatrix1D l_vector = this.randomvector();
+
+        m_matrixmatrix = arguments( l_matrix, this.randommatrix() );
+        m_matrixvector = arguments( l_matrix, l_vector );
+        m_vectorvector = arguments( l_vector, this.randomvector() );
+    }
+
+    /**
+     * matrix-matrix product
+     *
+     * @return product
+     */
+    @Benchmark
+    public List<ITerm> matrixmatrix()
+    {
+        return execute( m_action, m_matrixmatrix );
+    }
+
+    /**
+     * matrix-vector product
+     *
+     * @return product
+     */
+    @Benchmark
+    public List<ITerm> matrixvector()
+    {
+        return execute( m_action, m_matrixvector );
+    }
+
+    /**
+     * vector outer product
+     *
+     * @return product
+     */
+    @Benchmark
+    public List<ITerm> vectorvector()
+    {
+        return execute( m_action, m_vectorvector );
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.matrix.CLoad;
+import org.lightjason.agentspeak.action.blas.matrix.CParse;
+import org.lightjason.agentspeak.action.blas.matrix.CSave;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the matrix and vector string parser
+ * and of the binary matrix loading
+ */
+public class CBenchmarkParse extends IBaseBenchmark
+{
+    /**
+     * number of elements of the large vector, which
+     * does not depend on the size parameter
+     */
+    private static final int LARGEVECTOR = 1000000;
+    /**
+     * matrix parse action
+     */
+    private final IAction m_matrixaction = new CParse();
+    /**
+     * vector parse action
+     */
+    private final IAction m_vectoraction = new org.lightjason.agentspeak.action.blas.vector.CParse();
+    /**
+     * matrix load action
+     */
+    private final IAction m_loadaction = new CLoad();
+    /**
+     * matrix arguments
+     */
+    private List<ITerm> m_matrix;
+    /**
+     * vector arguments
+     */
+    private List<ITerm> m_vector;
+    /**
+     * large vector arguments
+     */
+    private List<ITerm> m_largevector;
+    /**
+     * binary matrix file
+     */
+    private Path m_file;
+    /**
+     * load arguments
+     */
+    private List<ITerm> m_load;
+
+    /**
+     * initialize the input strings and the binary file
+     *
+     * @throws IOException on file error
+     */
+    @Setup
+    public void initialize() throws IOException
+    {
+        final DoubleMatrix2D l_matrix = this.randommatrix();
+
+        m_matrix = arguments(
+            IntStream.range( 0, l_matrix.rows() ).mapToObj( i -> CBenchmarkParse.join( l_matrix.viewRow( i ) ) ).collect( Collectors.joining( "; " ) ),
+            m_type.name()
+        );
+        m_vector = arguments( CBenchmarkParse.join( this.randomvector() ), m_type.name() );
+        m_largevector = arguments( CBenchmarkParse.join( this.randomvector( LARGEVECTOR ) ), m_type.name() );
+
+        m_file = Files.createTempFile( "benchmark", ".bin" );
+        m_load = arguments( m_file.toString() );
+        execute( new CSave(), arguments( m_file.toString(), l_matrix ) );
+    }
+
+    /**
+     * removes the binary matrix file
+     *
+     * @throws IOException on file error
+     */
+    @TearDown
+    public void release() throws IOException
+    {
+        Files.deleteIfExists( m_file );
+    }
+
+    /**
+     * parse a matrix
+     *
+     * @return matrix
+     */
+    @Benchmark
+    public List<ITerm> matrix()
+    {
+        return execute( m_matrixaction, m_matrix );
+    }
+
+    /**
+     * load a binary matrix
+     *
+     * @return matrix
+     */
+    @Benchmark
+    public List<ITerm> matrixload()
+    {
+        return execute( m_loadaction, m_load );
+    }
+
+    /**
+     * parse a vector
+     *
+     * @return vector
+     */
+    @Benchmark
+    public List<ITerm> vector()
+    {
+        return execute( m_vectoraction, m_vector );
+    }
+
+    /**
+     * parse a vector with one million elements
+     *
+     * @return vector
+     */
+    @Benchmark
+    public List<ITerm> largevector()
+    {
+        return execute( m_vectoraction, m_largevector );
+    }
+
+    /**
+     * joins the vector elements space-separated
+     *
+     * @param p_vector vector
+     * @return string
+     */
+    @Nonnull
+    private static String join( @Nonnull final DoubleMatrix1D p_vector )
+    {
+        return IntStream.range( 0, (int) p_vector.size() ).mapToObj( i -> Double.toString( p_vector.getQuick( i ) ) ).collect( Collectors.joining( " " ) );
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.matrix.CPerronFrobenius;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+
+
+/**
+ * benchmark of the perron-frobenius eigenvector
+ */
+public class CBenchmarkPerronFrobenius extends IBaseBenchmark
+{
+    /**
+     * number of iterations
+     */
+    @Param( { "10", "100" } )
+    public int m_iteration;
+    /**
+     * action
+     */
+    private final IAction m_action = new CPerronFrobenius();
+    /**
+     * arguments
+     */
+    private List<ITerm> m_arguments;
+    /**
+     * arguments with tolerance
+     */
+    private List<ITerm> m_tolerancearguments;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        final DoubleMatrix2D l_matrix = this.randommatrix();
+        m_arguments = arguments( m_iteration, l_matrix );
+        m_tolerancearguments = arguments( m_iteration, 1e-8, l_matrix );
+    }
+
+    /**
+     * eigenvector calculation
+     *
+     * @return eigenvector
+     */
+    @Benchmark
+    public List<ITerm> eigenvector()
+    {
+        return execute( m_action, m_arguments );
+    }
+
+    /**
+     * eigenvector calculation with tolerance
+     *
+     * @return eigenvector, iterations and eigenvalue
+     */
+    @Benchmark
+    public List<ITerm> eigenvectortolerance()
+    {
+        return execute( m_action, m_tolerancearguments );
+    }
+}
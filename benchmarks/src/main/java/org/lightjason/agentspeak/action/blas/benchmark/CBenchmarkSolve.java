@@ -0,0 +1,90 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.matrix.CSolve;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+
+/**
+ * benchmark of the equation solver, the system
+ * matrix is diagonal dominant so it is never singular
+ */
+public class CBenchmarkSolve extends IBaseBenchmark
+{
+    /**
+     * action
+     */
+    private final IAction m_action = new CSolve();
+    /**
+     * matrix right-hand-side arguments
+     */
+    private List<ITerm> m_matrix;
+    /**
+     * vector right-hand-side arguments
+     */
+    private List<ITerm> m_vector;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        final DoubleMatrix2D l_system = this.randommatrix();
+        IntStream.range( 0, m_size ).forEach( i -> l_system.setQuick( i, i, l_system.getQuick( i, i ) + m_size ) );
+
+        m_matrix = arguments( l_system, this.randommatrix() );
+        m_vector = arguments( l_system, this.randomvector() );
+    }
+
+    /**
+     * solve with matrix right-hand-side
+     *
+     * @return solution
+     */
+    @Benchmark
+    public List<ITerm> matrix()
+    {
+        return execute( m_action, m_matrix );
+    }
+
+    /**
+     * solve with vector right-hand-side
+     *
+     * @return solution
+     */
+    @Benchmark
+    public List<ITerm> vector()
+    {
+        return execute( m_action, m_vector );
+    }
+}
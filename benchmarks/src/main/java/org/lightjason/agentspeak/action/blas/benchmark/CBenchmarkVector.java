@@ -0,0 +1,242 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.vector.CAssign;
+import org.lightjason.agentspeak.action.blas.vector.CCopy;
+import org.lightjason.agentspeak.action.blas.vector.CCreate;
+import org.lightjason.agentspeak.action.blas.vector.CDotProduct;
+import org.lightjason.agentspeak.action.blas.vector.CFromList;
+import org.lightjason.agentspeak.action.blas.vector.CGet;
+import org.lightjason.agentspeak.action.blas.vector.CLambdaStreaming;
+import org.lightjason.agentspeak.action.blas.vector.CNonZero;
+import org.lightjason.agentspeak.action.blas.vector.CSet;
+import org.lightjason.agentspeak.action.blas.vector.CSum;
+import org.lightjason.agentspeak.action.blas.vector.CToList;
+import org.lightjason.agentspeak.language.ITerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+
+/**
+ * benchmark of vector actions
+ */
+public class CBenchmarkVector extends IBaseBenchmark
+{
+    /**
+     * assign action
+     */
+    private final IAction m_assign = new CAssign();
+    /**
+     * copy action
+     */
+    private final IAction m_copy = new CCopy();
+    /**
+     * create action
+     */
+    private final IAction m_create = new CCreate();
+    /**
+     * dot-product action
+     */
+    private final IAction m_dotproduct = new CDotProduct();
+    /**
+     * from-list action
+     */
+    private final IAction m_fromlist = new CFromList();
+    /**
+     * get action
+     */
+    private final IAction m_get = new CGet();
+    /**
+     * non-zero action
+     */
+    private final IAction m_nonzero = new CNonZero();
+    /**
+     * set action
+     */
+    private final IAction m_set = new CSet();
+    /**
+     * sum action
+     */
+    private final IAction m_sum = new CSum();
+    /**
+     * to-list action
+     */
+    private final IAction m_tolist = new CToList();
+    /**
+     * lambda streaming
+     */
+    private final CLambdaStreaming m_lambda = new CLambdaStreaming();
+    /**
+     * vector
+     */
+    private DoubleMatrix1D m_vector;
+    /**
+     * second vector
+     */
+    private DoubleMatrix1D m_other;
+    /**
+     * list of the vector elements
+     */
+    private List<Double> m_list;
+
+    /**
+     * initialize the input structures
+     */
+    @Setup
+    public void initialize()
+    {
+        m_vector = this.randomvector();
+        m_other = this.randomvector();
+        m_list = Arrays.stream( m_vector.toArray() ).boxed().collect( Collectors.toList() );
+    }
+
+    /**
+     * assign a scalar to all elements
+     *
+     * @return empty result
+     */
+    @Benchmark
+    public List<ITerm> assign()
+    {
+        return execute( m_assign, arguments( 1, m_vector ) );
+    }
+
+    /**
+     * copy
+     *
+     * @return vector
+     */
+    @Benchmark
+    public List<ITerm> copy()
+    {
+        return execute( m_copy, arguments( m_vector ) );
+    }
+
+    /**
+     * vector creation
+     *
+     * @return vector
+     */
+    @Benchmark
+    public List<ITerm> create()
+    {
+        return execute( m_create, arguments( m_size, m_type.name() ) );
+    }
+
+    /**
+     * dot-product
+     *
+     * @return value
+     */
+    @Benchmark
+    public List<ITerm> dotproduct()
+    {
+        return execute( m_dotproduct, arguments( m_vector, m_other ) );
+    }
+
+    /**
+     * creation of a list
+     *
+     * @return vector
+     */
+    @Benchmark
+    public List<ITerm> fromlist()
+    {
+        return execute( m_fromlist, arguments( m_list, m_type.name() ) );
+    }
+
+    /**
+     * single element read
+     *
+     * @return value
+     */
+    @Benchmark
+    public List<ITerm> get()
+    {
+        return execute( m_get, arguments( m_vector, m_size / 2 ) );
+    }
+
+    /**
+     * single element write
+     *
+     * @return empty result
+     */
+    @Benchmark
+    public List<ITerm> set()
+    {
+        return execute( m_set, arguments( m_size / 2, 1, m_vector ) );
+    }
+
+    /**
+     * number of nonzero elements
+     *
+     * @return value
+     */
+    @Benchmark
+    public List<ITerm> nonzero()
+    {
+        return execute( m_nonzero, arguments( m_vector ) );
+    }
+
+    /**
+     * sum of elements
+     *
+     * @return value
+     */
+    @Benchmark
+    public List<ITerm> sum()
+    {
+        return execute( m_sum, arguments( m_vector ) );
+    }
+
+    /**
+     * conversion to a list
+     *
+     * @return list
+     */
+    @Benchmark
+    public List<ITerm> tolist()
+    {
+        return execute( m_tolist, arguments( m_vector ) );
+    }
+
+    /**
+     * streaming all elements
+     *
+     * @param p_blackhole blackhole
+     */
+    @Benchmark
+    public void lambda( final Blackhole p_blackhole )
+    {
+        m_lambda.apply( m_vector ).forEach( p_blackhole::consume );
+    }
+}
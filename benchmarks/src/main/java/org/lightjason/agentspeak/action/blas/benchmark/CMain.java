@@ -0,0 +1,78 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * benchmark runner.
+ * Runs the benchmarks with the JMH command-line options,
+ * if no result format is given the results are written
+ * as JSON into "benchmark.json", so they can be compared
+ * between library versions
+ *
+ * {@code java -jar target/benchmarks.jar CBenchmarkMultiply -p m_size=128,1024 -rff multiply.json}
+ */
+public final class CMain
+{
+    /**
+     * default result file
+     */
+    private static final String RESULTFILE = "benchmark.json";
+
+    /**
+     * ctor
+     */
+    private CMain()
+    {
+    }
+
+    /**
+     * main method
+     *
+     * @param p_args command-line arguments
+     * @throws CommandLineOptionException on argument error
+     * @throws RunnerException on benchmark error
+     */
+    public static void main( final String[] p_args ) throws CommandLineOptionException, RunnerException
+    {
+        final CommandLineOptions l_options = new CommandLineOptions( p_args );
+        final ChainedOptionsBuilder l_builder = new OptionsBuilder().parent( l_options );
+
+        if ( !l_options.getResultFormat().hasValue() )
+            l_builder.resultFormat( ResultFormatType.JSON );
+
+        if ( !l_options.getResult().hasValue() )
+            l_builder.result( RESULTFILE );
+
+        new Runner( l_builder.build() ).run();
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.benchmark;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import org.lightjason.agentspeak.action.IAction;
+import org.lightjason.agentspeak.action.blas.EType;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+
+/**
+ * base benchmark state.
+ * Defines the structure size and the storage type
+ * of all benchmarks and creates reproducible random
+ * input structures, sparse structures are filled
+ * with the given density
+ *
+ * @note JMH generates subclasses of the benchmarks, so benchmark classes cannot be final
+ */
+@State( Scope.Benchmark )
+@BenchmarkMode( Mode.AverageTime )
+@OutputTimeUnit( TimeUnit.MICROSECONDS )
+@Warmup( iterations = 3, time = 1 )
+@Measurement( iterations = 5, time = 1 )
+@Fork( 1 )
+public abstract class IBaseBenchmark
+{
+    /**
+     * random seed
+     */
+    private static final long SEED = 6073L;
+    /**
+     * number of rows and columns of the input structures
+     */
+    @Param( { "2", "16", "128", "1024", "4096" } )
+    public int m_size;
+    /**
+     * storage type
+     */
+    @Param( { "DENSE", "SPARSE" } )
+    public EType m_type;
+    /**
+     * fill ratio of sparse structures
+     */
+    @Param( { "0.01" } )
+    public double m_density;
+    /**
+     * random generator
+     */
+    private final Random m_random = new Random( SEED );
+
+
+    /**
+     * creates a squared random matrix
+     *
+     * @return matrix
+     */
+    @Nonnull
+    protected final DoubleMatrix2D randommatrix()
+    {
+        return this.randommatrix( m_size, m_size );
+    }
+
+    /**
+     * creates a random matrix
+     *
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     * @return matrix
+     */
+    @Nonnull
+    protected final DoubleMatrix2D randommatrix( final int p_rows, final int p_columns )
+    {
+        if ( m_type == EType.DENSE )
+        {
+            final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( p_rows, p_columns );
+            IntStream.range( 0, p_rows ).forEach( i -> IntStream.range( 0, p_columns ).forEach( j -> l_matrix.setQuick( i, j, m_random.nextDouble() ) ) );
+            return l_matrix;
+        }
+
+        final DoubleMatrix2D l_matrix = new SparseDoubleMatrix2D( p_rows, p_columns );
+        IntStream.range( 0, this.nonzeros( (long) p_rows * p_columns ) )
+                 .forEach( i -> l_matrix.setQuick( m_random.nextInt( p_rows ), m_random.nextInt( p_columns ), m_random.nextDouble() ) );
+        return l_matrix;
+    }
+
+    /**
+     * creates a random vector
+     *
+     * @return vector
+     */
+    @Nonnull
+    protected final DoubleMatrix1D randomvector()
+    {
+        return this.randomvector( m_size );
+    }
+
+    /**
+     * creates a random vector
+     *
+     * @param p_size number of elements
+     * @return vector
+     */
+    @Nonnull
+    protected final DoubleMatrix1D randomvector( final int p_size )
+    {
+        if ( m_type == EType.DENSE )
+            return new DenseDoubleMatrix1D( m_random.doubles( p_size ).toArray() );
+
+        final DoubleMatrix1D l_vector = new SparseDoubleMatrix1D( p_size );
+        IntStream.range( 0, this.nonzeros( p_size ) ).forEach( i -> l_vector.setQuick( m_random.nextInt( p_size ), m_random.nextDouble() ) );
+        return l_vector;
+    }
+
+    /**
+     * number of nonzero elements of a sparse structure
+     *
+     * @param p_cells number of cells
+     * @return number of nonzeros, at least one
+     */
+    private int nonzeros( final long p_cells )
+    {
+        return (int) Math.max( 1, Math.round( p_cells * m_density ) );
+    }
+
+    /**
+     * executes an action
+     *
+     * @param p_action action
+     * @param p_argument arguments
+     * @return return arguments
+     */
+    @Nonnull
+    protected static List<ITerm> execute( @Nonnull final IAction p_action, @Nonnull final List<ITerm> p_argument )
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        p_action.execute( false, IContext.EMPTYPLAN, p_argument, l_return );
+        return l_return;
+    }
+
+    /**
+     * creates an argument list
+     *
+     * @param p_values argument values
+     * @return argument terms
+     */
+    @Nonnull
+    protected static List<ITerm> arguments( @Nonnull final Object... p_values )
+    {
+        return Arrays.stream( p_values ).map( CRawTerm::of ).collect( Collectors.toList() );
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatMatrix1D;
+import cern.colt.matrix.tfloat.FloatMatrix2D;
+import cern.colt.matrix.tfloat.impl.DenseFloatMatrix1D;
+import cern.colt.matrix.tfloat.impl.DenseFloatMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * converts the precision of matrices and vectors.
+ * The action converts each matrix or vector argument into a
+ * dense structure with the precision of the last argument, which
+ * is "float" for single precision or "dense" for double precision,
+ * the action fails on other types or non-blas arguments
+ *
+ * {@code [A|B] = .math/blas/convert( Matrix, Vector, "float|dense" );}
+ */
+public final class CConvert extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -5326006870564585338L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CConvert.class, "math", "blas" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final ITerm l_last = l_arguments.get( l_arguments.size() - 1 );
+        final EType l_type = CCommon.isssignableto( l_last, String.class ) && EType.exists( l_last.raw() ) ? EType.of( l_last.raw() ) : null;
+        if ( l_type != EType.FLOAT && l_type != EType.DENSE )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", l_last.<Object>raw() )
+            );
+
+        final List<Object> l_result = l_arguments.stream()
+                                                 .limit( l_arguments.size() - 1 )
+                                                 .map( i -> l_type == EType.FLOAT ? tofloat( i ) : todouble( i ) )
+                                                 .collect( Collectors.toList() );
+
+        if ( l_result.contains( null ) )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" ) );
+
+        l_result.stream()
+                .map( CRawTerm::of )
+                .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * converts a term into single precision
+     *
+     * @param p_term term
+     * @return single precision structure or null
+     */
+    private static Object tofloat( @Nonnull final ITerm p_term )
+    {
+        if ( CCommon.isssignableto( p_term, DoubleMatrix2D.class ) )
+            return tofloat( p_term.<DoubleMatrix2D>raw() );
+        if ( CCommon.isssignableto( p_term, DoubleMatrix1D.class ) )
+            return tofloat( p_term.<DoubleMatrix1D>raw() );
+        if ( CCommon.isssignableto( p_term, FloatMatrix2D.class ) || CCommon.isssignableto( p_term, FloatMatrix1D.class ) )
+            return p_term.raw();
+
+        return null;
+    }
+
+    /**
+     * converts a term into double precision
+     *
+     * @param p_term term
+     * @return double precision structure or null
+     */
+    private static Object todouble( @Nonnull final ITerm p_term )
+    {
+        if ( CCommon.isssignableto( p_term, FloatMatrix2D.class ) )
+            return todouble( p_term.<FloatMatrix2D>raw() );
+        if ( CCommon.isssignableto( p_term, FloatMatrix1D.class ) )
+            return todouble( p_term.<FloatMatrix1D>raw() );
+        if ( CCommon.isssignableto( p_term, DoubleMatrix2D.class ) || CCommon.isssignableto( p_term, DoubleMatrix1D.class ) )
+            return p_term.raw();
+
+        return null;
+    }
+
+    /**
+     * converts a matrix into a dense single precision matrix
+     *
+     * @param p_matrix matrix
+     * @return single precision matrix
+     */
+    @Nonnull
+    public static FloatMatrix2D tofloat( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final float[] l_elements = new float[p_matrix.rows() * p_matrix.columns()];
+        for ( int i = 0; i < p_matrix.rows(); i++ )
+            for ( int j = 0; j < p_matrix.columns(); j++ )
+                l_elements[i * p_matrix.columns() + j] = (float) p_matrix.getQuick( i, j );
+
+        return new DenseFloatMatrix2D( p_matrix.rows(), p_matrix.columns(), l_elements, 0, 0, p_matrix.columns(), 1, false );
+    }
+
+    /**
+     * converts a vector into a dense single precision vector
+     *
+     * @param p_vector vector
+     * @return single precision vector
+     */
+    @Nonnull
+    public static FloatMatrix1D tofloat( @Nonnull final DoubleMatrix1D p_vector )
+    {
+        final float[] l_elements = new float[(int) p_vector.size()];
+        for ( int i = 0; i < l_elements.length; i++ )
+            l_elements[i] = (float) p_vector.getQuick( i );
+
+        return new DenseFloatMatrix1D( l_elements );
+    }
+
+    /**
+     * converts a single precision matrix into a dense matrix
+     *
+     * @param p_matrix single precision matrix
+     * @return matrix
+     */
+    @Nonnull
+    public static DoubleMatrix2D todouble( @Nonnull final FloatMatrix2D p_matrix )
+    {
+        final double[] l_elements = new double[p_matrix.rows() * p_matrix.columns()];
+        for ( int i = 0; i < p_matrix.rows(); i++ )
+            for ( int j = 0; j < p_matrix.columns(); j++ )
+                l_elements[i * p_matrix.columns() + j] = p_matrix.getQuick( i, j );
+
+        return new DenseDoubleMatrix2D( p_matrix.rows(), p_matrix.columns(), l_elements, 0, 0, p_matrix.columns(), 1, false );
+    }
+
+    /**
+     * converts a single precision vector into a dense vector
+     *
+     * @param p_vector single precision vector
+     * @return vector
+     */
+    @Nonnull
+    public static DoubleMatrix1D todouble( @Nonnull final FloatMatrix1D p_vector )
+    {
+        final double[] l_elements = new double[(int) p_vector.size()];
+        for ( int i = 0; i < l_elements.length; i++ )
+            l_elements[i] = p_vector.getQuick( i );
+
+        return new DenseDoubleMatrix1D( l_elements );
+    }
+
+}
@@ -0,0 +1,503 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import cern.colt.matrix.tdouble.DoubleFactory2D;
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.algo.DenseDoubleAlgebra;
+import cern.colt.matrix.tdouble.algo.decomposition.DenseDoubleCholeskyDecomposition;
+import cern.colt.matrix.tdouble.algo.decomposition.DenseDoubleLUDecomposition;
+import cern.colt.matrix.tdouble.algo.decomposition.DenseDoubleQRDecomposition;
+import cern.colt.matrix.tdouble.algo.decomposition.SparseDoubleCholeskyDecomposition;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+
+/**
+ * cache of matrix decompositions for solving equations.
+ * The decomposition of a system matrix is stored with the identity of the
+ * matrix and a copy of its elements as modification version, symmetric
+ * positive-definite matrices are decomposed with a cholesky decomposition
+ * (sparse matrices stay sparse), other square matrices with a LU and
+ * non-square matrices with a QR decomposition, so a
+ * repeated solve against an unchanged matrix runs only the substitution
+ * in \f$ O(n^2) \f$ instead of the decomposition in \f$ O(n^3) \f$,
+ * a modified matrix is decomposed again, the cache has a bounded size
+ * and removes the least-recently used decomposition, the matrices are
+ * referenced weakly, so the entry of a dropped matrix is removed, each
+ * entry stores a copy of its matrix, so the capacity of the default
+ * instance can be set with the configuration (blas.cachecapacity)
+ */
+public final class CDecompositionCache
+{
+    /**
+     * default instance
+     */
+    public static final CDecompositionCache DEFAULT = new CDecompositionCache( CParallel.CACHECAPACITY );
+    /**
+     * lock of the dense cholesky decomposition
+     */
+    private static final Object CHOLESKY = new Object();
+    /**
+     * cache entries in access order
+     */
+    private final Map<CKey, CEntry> m_entries;
+    /**
+     * queue of keys with dropped matrices
+     */
+    private final ReferenceQueue<DoubleMatrix2D> m_queue = new ReferenceQueue<>();
+
+    /**
+     * ctor
+     *
+     * @param p_capacity maximum number of cached decompositions
+     */
+    public CDecompositionCache( @Nonnegative final int p_capacity )
+    {
+        m_entries = new LinkedHashMap<>( 16, 0.75f, true )
+        {
+            /**
+             * serial id
+             */
+            private static final long serialVersionUID = -6009416617003738616L;
+
+            @Override
+            protected boolean removeEldestEntry( final Map.Entry<CKey, CEntry> p_eldest )
+            {
+                return this.size() > p_capacity;
+            }
+        };
+    }
+
+    /**
+     * solves the equation \f$ A \cdot X = B \f$, square matrices are
+     * solved with a LU decomposition, all other with a QR decomposition
+     * in the least-squares sense
+     *
+     * @param p_matrix matrix \f$ A \f$
+     * @param p_rhs right-hand-side \f$ B \f$
+     * @return solution \f$ X \f$
+     */
+    @Nonnull
+    public DoubleMatrix2D solve( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DoubleMatrix2D p_rhs )
+    {
+        return this.entry( p_matrix ).solve( p_rhs );
+    }
+
+    /**
+     * number of cached decompositions
+     *
+     * @return size
+     */
+    @Nonnegative
+    public int size()
+    {
+        synchronized ( m_entries )
+        {
+            this.purge();
+            return m_entries.size();
+        }
+    }
+
+    /**
+     * removes all decompositions
+     */
+    public void clear()
+    {
+        synchronized ( m_entries )
+        {
+            m_entries.clear();
+        }
+    }
+
+    /**
+     * removes the decomposition of a matrix, the key is
+     * released like the key of a dropped matrix
+     *
+     * @param p_matrix matrix
+     */
+    public void remove( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        synchronized ( m_entries )
+        {
+            m_entries.keySet()
+                     .stream()
+                     .filter( i -> i.get() == p_matrix )
+                     .findFirst()
+                     .ifPresent( i ->
+                     {
+                         i.clear();
+                         i.enqueue();
+                     } );
+            this.purge();
+        }
+    }
+
+    /**
+     * removes the entries of dropped matrices,
+     * must be called with the lock of the entries
+     */
+    private void purge()
+    {
+        for ( Reference<? extends DoubleMatrix2D> i = m_queue.poll(); i != null; i = m_queue.poll() )
+            m_entries.remove( i );
+    }
+
+    /**
+     * returns the valid cache entry of a matrix,
+     * the decomposition runs outside of the lock
+     *
+     * @param p_matrix matrix
+     * @return cache entry
+     */
+    @Nonnull
+    private CEntry entry( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final CEntry l_cached;
+        synchronized ( m_entries )
+        {
+            this.purge();
+            l_cached = m_entries.get( new CKey( p_matrix, null ) );
+        }
+
+        if ( l_cached != null && l_cached.matches( p_matrix ) )
+            return l_cached;
+
+        final CEntry l_entry = new CEntry( p_matrix );
+        synchronized ( m_entries )
+        {
+            m_entries.put( new CKey( p_matrix, m_queue ), l_entry );
+        }
+        return l_entry;
+    }
+
+
+    /**
+     * inverts a matrix, a symmetric positive-definite
+     * matrix is inverted with a cholesky decomposition
+     *
+     * @param p_matrix matrix
+     * @return inverse matrix
+     */
+    @Nonnull
+    public static DoubleMatrix2D inverse( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final UnaryOperator<DoubleMatrix2D> l_cholesky = p_matrix.rows() == p_matrix.columns() ? CDecompositionCache.cholesky( p_matrix ) : null;
+        return l_cholesky == null
+               ? DenseDoubleAlgebra.DEFAULT.inverse( IBaseAlgebra.dense( p_matrix ) )
+               : l_cholesky.apply( DoubleFactory2D.dense.identity( p_matrix.rows() ) );
+    }
+
+    /**
+     * checks if a matrix is symmetric, sparse
+     * matrices are checked on their non-zero elements
+     *
+     * @param p_matrix square matrix
+     * @return symmetric flag
+     */
+    public static boolean symmetric( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        if ( p_matrix.rows() != p_matrix.columns() )
+            return false;
+
+        if ( CSparseAlgebra.issparse( p_matrix ) )
+        {
+            final boolean[] l_symmetric = {true};
+            p_matrix.forEachNonZero( ( i, j, v ) ->
+            {
+                l_symmetric[0] &= i == j || Double.doubleToLongBits( v ) == Double.doubleToLongBits( p_matrix.getQuick( j, i ) );
+                return v;
+            } );
+            return l_symmetric[0];
+        }
+
+        for ( int i = 0; i < p_matrix.rows(); i++ )
+            for ( int j = i + 1; j < p_matrix.columns(); j++ )
+                if ( Double.doubleToLongBits( p_matrix.getQuick( i, j ) ) != Double.doubleToLongBits( p_matrix.getQuick( j, i ) ) )
+                    return false;
+
+        return true;
+    }
+
+    /**
+     * solver of a square matrix, a symmetric positive-definite
+     * matrix is solved with a cholesky decomposition, all other
+     * with a LU decomposition
+     *
+     * @param p_matrix square matrix
+     * @return solver
+     */
+    @Nonnull
+    private static UnaryOperator<DoubleMatrix2D> square( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final UnaryOperator<DoubleMatrix2D> l_cholesky = CDecompositionCache.cholesky( p_matrix );
+        return l_cholesky == null ? CDecompositionCache.lu( p_matrix ) : l_cholesky;
+    }
+
+    /**
+     * solver with a cholesky decomposition, sparse matrices
+     * are decomposed with a fill-reducing ordering
+     *
+     * @param p_matrix square matrix
+     * @return solver or null if the matrix is not symmetric positive-definite
+     */
+    @Nullable
+    private static UnaryOperator<DoubleMatrix2D> cholesky( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        if ( !CDecompositionCache.symmetric( p_matrix ) )
+            return null;
+
+        try
+        {
+            return CSparseAlgebra.issparse( p_matrix ) ? CDecompositionCache.sparsecholesky( p_matrix ) : CDecompositionCache.densecholesky( p_matrix );
+        }
+        catch ( final IllegalArgumentException l_exception )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * solver with a dense cholesky decomposition, the decomposition
+     * runs on a global native context, so all calls are serialized
+     *
+     * @param p_matrix square matrix
+     * @return solver
+     */
+    @Nonnull
+    private static UnaryOperator<DoubleMatrix2D> densecholesky( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final DenseDoubleCholeskyDecomposition l_cholesky;
+        synchronized ( CHOLESKY )
+        {
+            l_cholesky = new DenseDoubleCholeskyDecomposition(
+                p_matrix instanceof DenseDoubleMatrix2D ? p_matrix : new DenseDoubleMatrix2D( p_matrix.rows(), p_matrix.columns() ).assign( p_matrix )
+            );
+        }
+
+        return i ->
+        {
+            final DoubleMatrix2D l_result = new DenseDoubleMatrix2D( i.rows(), i.columns() ).assign( i );
+            synchronized ( CHOLESKY )
+            {
+                l_cholesky.solve( l_result );
+            }
+            return l_result;
+        };
+    }
+
+    /**
+     * solver with a sparse cholesky decomposition
+     *
+     * @param p_matrix sparse square matrix
+     * @return solver
+     */
+    @Nonnull
+    private static UnaryOperator<DoubleMatrix2D> sparsecholesky( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final SparseDoubleCholeskyDecomposition l_cholesky = new SparseDoubleCholeskyDecomposition(
+            p_matrix instanceof SparseDoubleMatrix2D ? ( (SparseDoubleMatrix2D) p_matrix ).getColumnCompressed( true ) : p_matrix,
+            1
+        );
+
+        return i ->
+        {
+            final DoubleMatrix2D l_result = new DenseDoubleMatrix2D( i.rows(), i.columns() );
+            for ( int j = 0; j < i.columns(); j++ )
+            {
+                final DoubleMatrix1D l_column = new DenseDoubleMatrix1D( i.rows() ).assign( i.viewColumn( j ) );
+                l_cholesky.solve( l_column );
+                l_result.viewColumn( j ).assign( l_column );
+            }
+            return l_result;
+        };
+    }
+
+    /**
+     * solver with a LU decomposition
+     *
+     * @param p_matrix square matrix
+     * @return solver
+     */
+    @Nonnull
+    private static UnaryOperator<DoubleMatrix2D> lu( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final DenseDoubleLUDecomposition l_lu = new DenseDoubleLUDecomposition( IBaseAlgebra.dense( p_matrix ) );
+        return l_lu::solve;
+    }
+
+    /**
+     * solver with a QR decomposition
+     *
+     * @param p_matrix matrix
+     * @return solver
+     */
+    @Nonnull
+    private static UnaryOperator<DoubleMatrix2D> qr( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        final DenseDoubleQRDecomposition l_qr = new DenseDoubleQRDecomposition( IBaseAlgebra.dense( p_matrix ) );
+        final int l_columns = p_matrix.columns();
+        return i ->
+        {
+            final DoubleMatrix2D l_result = i.copy();
+            l_qr.solve( l_result );
+            return l_result.viewPart( 0, 0, l_columns, i.columns() ).copy();
+        };
+    }
+
+
+    /**
+     * cache key with a weak reference to the identity of the matrix,
+     * so the cache does not keep dropped matrices alive
+     */
+    private static final class CKey extends WeakReference<DoubleMatrix2D>
+    {
+        /**
+         * identity hash of the matrix
+         */
+        private final int m_hash;
+
+        /**
+         * ctor
+         *
+         * @param p_matrix matrix
+         * @param p_queue reference queue or null for lookups
+         */
+        CKey( @Nonnull final DoubleMatrix2D p_matrix, @Nullable final ReferenceQueue<? super DoubleMatrix2D> p_queue )
+        {
+            super( p_matrix, p_queue );
+            m_hash = System.identityHashCode( p_matrix );
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return m_hash;
+        }
+
+        @Override
+        public boolean equals( final Object p_object )
+        {
+            if ( this == p_object )
+                return true;
+            if ( !( p_object instanceof CKey ) )
+                return false;
+
+            final DoubleMatrix2D l_matrix = this.get();
+            return l_matrix != null && l_matrix == ( (CKey) p_object ).get();
+        }
+    }
+
+
+    /**
+     * cache entry with the decomposition and the
+     * snapshot of the decomposed elements
+     */
+    private static final class CEntry
+    {
+        /**
+         * copy of the decomposed matrix
+         */
+        private final DoubleMatrix2D m_snapshot;
+        /**
+         * solver of the decomposition
+         */
+        private final UnaryOperator<DoubleMatrix2D> m_solver;
+
+        /**
+         * ctor
+         *
+         * @param p_matrix matrix
+         */
+        CEntry( @Nonnull final DoubleMatrix2D p_matrix )
+        {
+            m_snapshot = p_matrix.copy();
+            m_solver = p_matrix.rows() == p_matrix.columns() ? CDecompositionCache.square( p_matrix ) : CDecompositionCache.qr( p_matrix );
+        }
+
+        /**
+         * checks if the matrix is unchanged since the decomposition,
+         * sparse matrices are compared on their non-zero elements
+         *
+         * @param p_matrix matrix
+         * @return equality of the elements
+         */
+        boolean matches( @Nonnull final DoubleMatrix2D p_matrix )
+        {
+            if ( p_matrix.rows() != m_snapshot.rows() || p_matrix.columns() != m_snapshot.columns() )
+                return false;
+
+            if ( CSparseAlgebra.issparse( p_matrix ) && CSparseAlgebra.issparse( m_snapshot ) )
+            {
+                final long[] l_count = new long[2];
+                final boolean[] l_equal = {true};
+                p_matrix.forEachNonZero( ( i, j, v ) ->
+                {
+                    l_count[0]++;
+                    return v;
+                } );
+                m_snapshot.forEachNonZero( ( i, j, v ) ->
+                {
+                    l_count[1]++;
+                    l_equal[0] &= Double.doubleToLongBits( v ) == Double.doubleToLongBits( p_matrix.getQuick( i, j ) );
+                    return v;
+                } );
+                return l_equal[0] && l_count[0] == l_count[1];
+            }
+
+            for ( int i = 0; i < m_snapshot.rows(); i++ )
+                for ( int j = 0; j < m_snapshot.columns(); j++ )
+                    if ( Double.doubleToLongBits( m_snapshot.getQuick( i, j ) ) != Double.doubleToLongBits( p_matrix.getQuick( i, j ) ) )
+                        return false;
+
+            return true;
+        }
+
+        /**
+         * solves the equation, the decompositions use internal
+         * work arrays, so concurrent calls are serialized
+         *
+         * @param p_rhs right-hand-side
+         * @return solution
+         */
+        @Nonnull
+        synchronized DoubleMatrix2D solve( @Nonnull final DoubleMatrix2D p_rhs )
+        {
+            return m_solver.apply( p_rhs );
+        }
+    }
+
+}
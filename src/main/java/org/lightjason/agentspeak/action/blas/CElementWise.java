@@ -24,9 +24,15 @@
 package org.lightjason.agentspeak.action.blas;
 
 import cern.colt.function.tdouble.DoubleDoubleFunction;
+import cern.colt.function.tdouble.DoubleFunction;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.function.tfloat.FloatFloatFunction;
+import cern.colt.function.tfloat.FloatFunction;
+import cern.colt.matrix.tfloat.FloatMatrix1D;
+import cern.colt.matrix.tfloat.FloatMatrix2D;
 import cern.jet.math.tdouble.DoubleFunctions;
+import cern.jet.math.tfloat.FloatFunctions;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.common.IPath;
@@ -39,8 +45,10 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.BiFunction;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -49,8 +57,15 @@ import java.util.stream.Stream;
  * The action calculates elementwise different
  * operations (plus, plus-absolute, minus, multiply, divide),
  * all arguments are triples of matrix-operator-matrix|scalar,
- * the action fails on assigning problems
- * {@code [M1|M2|M3] = .math/blas/elementwise( Matrix1, "+", 5, Matrix2, "|+|", Matrix3, Matrix4, "-", 3, [Matrix5, "*", 0.5], [Matrix6, "/", 100]);}
+ * the action fails on assigning problems. Each operator with a
+ * trailing assignment (+=, |+|=, -=, *=, /=) writes the result into the
+ * left-hand-side matrix instead of a copy and returns the modified matrix,
+ * single precision matrices are calculated in single precision and can
+ * only be combined with single precision matrices or scalars
+ * {@code
+ * [M1|M2|M3] = .math/blas/elementwise( Matrix1, "+", 5, Matrix2, "|+|", Matrix3, Matrix4, "-", 3, [Matrix5, "*", 0.5], [Matrix6, "/", 100]);
+ * [M1|M2] = .math/blas/elementwise( Matrix1, "+=", 5, Matrix2, "*=", Matrix3 );
+ * }
  */
 public final class CElementWise extends IBaseAction
 {
@@ -62,6 +77,10 @@ public final class CElementWise extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CElementWise.class, "math", "blas" );
+    /**
+     * suffix of in-place operators
+     */
+    private static final String INPLACE = "=";
 
     @Nonnull
     @Override
@@ -83,76 +102,126 @@ public final class CElementWise extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        if ( !StreamUtils.windowed(
-            CCommon.flatten( p_argument ),
-            3,
-            3
-        ).allMatch( i ->
-        {
-            // for matrix 1d and 2d musst be the codes implement twice because of the inherited copy-method
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<List<ITerm>> l_windows = StreamUtils.windowed( l_arguments.stream(), 3, 3 ).collect( Collectors.toList() );
 
-            switch ( i.get( 1 ).<String>raw().trim() )
+        // in-place operations can depend on each other, so they are executed sequentially
+        final List<Optional<List<ITerm>>> l_result = CParallel.collect(
+            CParallel.stream(
+                p_parallel && l_windows.stream().noneMatch( CElementWise::inplace ),
+                l_windows,
+                CParallel.workload( l_arguments )
+            ).map( i ->
             {
-                case "+":
-                    return Stream.of(
-                        apply1d( i.get( 0 ), i.get( 2 ), DoubleFunctions.plus, Double::sum, p_return ),
-                        apply2d( i.get( 0 ), i.get( 2 ), DoubleFunctions.plus, Double::sum, p_return )
-                    ).filter( j -> j ).findFirst().orElse( false );
-
-                case "|+|":
-                    return Stream.of(
-                        apply1d( i.get( 0 ), i.get( 2 ), DoubleFunctions.plusAbs, ( n, m ) -> Math.abs( n + m ), p_return ),
-                        apply2d( i.get( 0 ), i.get( 2 ), DoubleFunctions.plusAbs, ( n, m ) -> Math.abs( n + m ), p_return )
-                    ).filter( j -> j ).findFirst().orElse( false );
-
-                case "-":
-                    return Stream.of(
-                        apply1d( i.get( 0 ), i.get( 2 ), DoubleFunctions.minus, ( n, m ) -> n - m, p_return ),
-                        apply2d( i.get( 0 ), i.get( 2 ), DoubleFunctions.minus, ( n, m ) -> n - m, p_return )
-                    ).filter( j -> j ).findFirst().orElse( false );
-
-                case "*":
-                    return Stream.of(
-                        apply1d( i.get( 0 ), i.get( 2 ), DoubleFunctions.mult, ( n, m ) -> n * m, p_return ),
-                        apply2d( i.get( 0 ), i.get( 2 ), DoubleFunctions.mult, ( n, m ) -> n * m, p_return )
-                    ).filter( j -> j ).findFirst().orElse( false );
-
-                case "/":
-                    return Stream.of(
-                        apply1d( i.get( 0 ), i.get( 2 ), DoubleFunctions.div, ( n, m ) -> n / m, p_return ),
-                        apply2d( i.get( 0 ), i.get( 2 ), DoubleFunctions.div, ( n, m ) -> n / m, p_return )
-                    ).filter( j -> j ).findFirst().orElse( false );
-
-                default:
-                    return false;
-            }
-
-        } ) )
+                final List<ITerm> l_return = new ArrayList<>( 1 );
+                return CElementWise.apply( i, l_return ) ? Optional.of( l_return ) : Optional.<List<ITerm>>empty();
+            } )
+        );
+
+        if ( !l_result.stream().allMatch( Optional::isPresent ) )
             throw new CExecutionIllegalStateException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "operatorerror" ) );
 
+        l_result.stream()
+                .map( Optional::get )
+                .forEach( p_return::addAll );
+
         return Stream.empty();
     }
 
+    /**
+     * checks if the operator of a triple is an in-place operator
+     *
+     * @param p_window triple of matrix-operator-matrix|scalar
+     * @return in-place flag
+     */
+    private static boolean inplace( @Nonnull final List<ITerm> p_window )
+    {
+        final String l_operator = p_window.get( 1 ).<String>raw().trim();
+        return l_operator.length() > 1 && l_operator.endsWith( INPLACE );
+    }
+
+    /**
+     * executes a single triple
+     *
+     * @param p_window triple of matrix-operator-matrix|scalar
+     * @param p_return return list
+     * @return successful executed
+     */
+    private static boolean apply( @Nonnull final List<ITerm> p_window, @Nonnull final List<ITerm> p_return )
+    {
+        // for matrix 1d and 2d musst be the codes implement twice because of the inherited copy-method
+
+        final String l_operator = p_window.get( 1 ).<String>raw().trim();
+        final boolean l_inplace = CElementWise.inplace( p_window );
+
+        switch ( l_inplace ? l_operator.substring( 0, l_operator.length() - INPLACE.length() ) : l_operator )
+        {
+            case "+":
+                return Stream.of(
+                    apply1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.plus, DoubleFunctions::plus, p_return ),
+                    apply2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.plus, DoubleFunctions::plus, p_return ),
+                    applyfloat1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.plus, n -> FloatFunctions.plus( (float) n ), p_return ),
+                    applyfloat2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.plus, n -> FloatFunctions.plus( (float) n ), p_return )
+                ).filter( j -> j ).findFirst().orElse( false );
+
+            case "|+|":
+                return Stream.of(
+                    apply1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.plusAbs, n -> DoubleFunctions.chain( DoubleFunctions.abs, DoubleFunctions.plus( n ) ), p_return ),
+                    apply2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.plusAbs, n -> DoubleFunctions.chain( DoubleFunctions.abs, DoubleFunctions.plus( n ) ), p_return ),
+                    applyfloat1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.plusAbs, n -> FloatFunctions.chain( FloatFunctions.abs, FloatFunctions.plus( (float) n ) ), p_return ),
+                    applyfloat2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.plusAbs, n -> FloatFunctions.chain( FloatFunctions.abs, FloatFunctions.plus( (float) n ) ), p_return )
+                ).filter( j -> j ).findFirst().orElse( false );
+
+            case "-":
+                return Stream.of(
+                    apply1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.minus, DoubleFunctions::minus, p_return ),
+                    apply2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.minus, DoubleFunctions::minus, p_return ),
+                    applyfloat1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.minus, n -> FloatFunctions.minus( (float) n ), p_return ),
+                    applyfloat2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.minus, n -> FloatFunctions.minus( (float) n ), p_return )
+                ).filter( j -> j ).findFirst().orElse( false );
+
+            case "*":
+                return Stream.of(
+                    apply1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.mult, DoubleFunctions::mult, p_return ),
+                    apply2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.mult, DoubleFunctions::mult, p_return ),
+                    applyfloat1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.mult, n -> FloatFunctions.mult( (float) n ), p_return ),
+                    applyfloat2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.mult, n -> FloatFunctions.mult( (float) n ), p_return )
+                ).filter( j -> j ).findFirst().orElse( false );
+
+            case "/":
+                return Stream.of(
+                    apply1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.div, n -> m -> m / n, p_return ),
+                    apply2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, DoubleFunctions.div, n -> m -> m / n, p_return ),
+                    applyfloat1d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.div, n -> m -> m / (float) n, p_return ),
+                    applyfloat2d( p_window.get( 0 ), p_window.get( 2 ), l_inplace, FloatFunctions.div, n -> m -> m / (float) n, p_return )
+                ).filter( j -> j ).findFirst().orElse( false );
+
+            default:
+                return false;
+        }
+    }
+
 
     /**
      * elementwise assign for matrix
      *
      * @param p_lhs left-hand-side (matrix argument)
      * @param p_rhs right-hand-side (matrix or scalar value argument
+     * @param p_inplace assign the result to the left-hand-side
      * @param p_matrixfunction function for matrix-matrix operation
-     * @param p_scalarfunction scalar function for value
+     * @param p_scalarfunction factory of the scalar function, the scalar is resolved once
      * @param p_return return list
      * @return successful executed
      */
-    private static boolean apply2d( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs,
+    private static boolean apply2d( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs, final boolean p_inplace,
                                     @Nonnull final DoubleDoubleFunction p_matrixfunction,
-                                    @Nonnull final BiFunction<Double, Double, Double> p_scalarfunction,
+                                    @Nonnull final java.util.function.DoubleFunction<DoubleFunction> p_scalarfunction,
                                     @Nonnull final List<ITerm> p_return )
     {
         if ( !CCommon.isssignableto( p_lhs, DoubleMatrix2D.class ) )
             return false;
 
-        final DoubleMatrix2D l_assign = p_lhs.<DoubleMatrix2D>raw().copy();
+        final DoubleMatrix2D l_assign = p_inplace ? p_lhs.<DoubleMatrix2D>raw() : p_lhs.<DoubleMatrix2D>raw().copy();
 
         if ( CCommon.isssignableto( p_rhs, DoubleMatrix2D.class ) )
         {
@@ -163,7 +232,7 @@ public final class CElementWise extends IBaseAction
 
         if ( CCommon.isssignableto( p_rhs, Number.class ) )
         {
-            l_assign.assign( i -> p_scalarfunction.apply( i, p_rhs.<Number>raw().doubleValue() ) );
+            l_assign.assign( p_scalarfunction.apply( p_rhs.<Number>raw().doubleValue() ) );
             p_return.add( CRawTerm.of( l_assign ) );
             return true;
         }
@@ -177,20 +246,21 @@ public final class CElementWise extends IBaseAction
      *
      * @param p_lhs left-hand-side (matrix argument)
      * @param p_rhs right-hand-side (matrix or scalar value argument
+     * @param p_inplace assign the result to the left-hand-side
      * @param p_matrixfunction function for matrix-matrix operation
-     * @param p_scalarfunction scalar function for value
+     * @param p_scalarfunction factory of the scalar function, the scalar is resolved once
      * @param p_return return list
      * @return successful executed
      */
-    private static boolean apply1d( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs,
+    private static boolean apply1d( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs, final boolean p_inplace,
                                     @Nonnull final DoubleDoubleFunction p_matrixfunction,
-                                    @Nonnull final BiFunction<Double, Double, Double> p_scalarfunction,
+                                    @Nonnull final java.util.function.DoubleFunction<DoubleFunction> p_scalarfunction,
                                     @Nonnull final List<ITerm> p_return )
     {
         if ( !CCommon.isssignableto( p_lhs, DoubleMatrix1D.class ) )
             return false;
 
-        final DoubleMatrix1D l_assign = p_lhs.<DoubleMatrix1D>raw().copy();
+        final DoubleMatrix1D l_assign = p_inplace ? p_lhs.<DoubleMatrix1D>raw() : p_lhs.<DoubleMatrix1D>raw().copy();
 
         if ( CCommon.isssignableto( p_rhs, DoubleMatrix1D.class ) )
         {
@@ -201,7 +271,85 @@ public final class CElementWise extends IBaseAction
 
         if ( CCommon.isssignableto( p_rhs, Number.class ) )
         {
-            l_assign.assign( i -> p_scalarfunction.apply( i, p_rhs.<Number>raw().doubleValue() ) );
+            l_assign.assign( p_scalarfunction.apply( p_rhs.<Number>raw().doubleValue() ) );
+            p_return.add( CRawTerm.of( l_assign ) );
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * elementwise assign for single precision matrix
+     *
+     * @param p_lhs left-hand-side (matrix argument)
+     * @param p_rhs right-hand-side (matrix or scalar value argument
+     * @param p_inplace assign the result to the left-hand-side
+     * @param p_matrixfunction function for matrix-matrix operation
+     * @param p_scalarfunction factory of the scalar function, the scalar is resolved once
+     * @param p_return return list
+     * @return successful executed
+     */
+    private static boolean applyfloat2d( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs, final boolean p_inplace,
+                                         @Nonnull final FloatFloatFunction p_matrixfunction,
+                                         @Nonnull final java.util.function.DoubleFunction<FloatFunction> p_scalarfunction,
+                                         @Nonnull final List<ITerm> p_return )
+    {
+        if ( !CCommon.isssignableto( p_lhs, FloatMatrix2D.class ) )
+            return false;
+
+        final FloatMatrix2D l_assign = p_inplace ? p_lhs.<FloatMatrix2D>raw() : p_lhs.<FloatMatrix2D>raw().copy();
+
+        if ( CCommon.isssignableto( p_rhs, FloatMatrix2D.class ) )
+        {
+            l_assign.assign( p_rhs.<FloatMatrix2D>raw(), p_matrixfunction );
+            p_return.add( CRawTerm.of( l_assign ) );
+            return true;
+        }
+
+        if ( CCommon.isssignableto( p_rhs, Number.class ) )
+        {
+            l_assign.assign( p_scalarfunction.apply( p_rhs.<Number>raw().doubleValue() ) );
+            p_return.add( CRawTerm.of( l_assign ) );
+            return true;
+        }
+
+        return false;
+    }
+
+
+    /**
+     * elementwise assign for single precision vector
+     *
+     * @param p_lhs left-hand-side (matrix argument)
+     * @param p_rhs right-hand-side (matrix or scalar value argument
+     * @param p_inplace assign the result to the left-hand-side
+     * @param p_matrixfunction function for matrix-matrix operation
+     * @param p_scalarfunction factory of the scalar function, the scalar is resolved once
+     * @param p_return return list
+     * @return successful executed
+     */
+    private static boolean applyfloat1d( @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs, final boolean p_inplace,
+                                         @Nonnull final FloatFloatFunction p_matrixfunction,
+                                         @Nonnull final java.util.function.DoubleFunction<FloatFunction> p_scalarfunction,
+                                         @Nonnull final List<ITerm> p_return )
+    {
+        if ( !CCommon.isssignableto( p_lhs, FloatMatrix1D.class ) )
+            return false;
+
+        final FloatMatrix1D l_assign = p_inplace ? p_lhs.<FloatMatrix1D>raw() : p_lhs.<FloatMatrix1D>raw().copy();
+
+        if ( CCommon.isssignableto( p_rhs, FloatMatrix1D.class ) )
+        {
+            l_assign.assign( p_rhs.<FloatMatrix1D>raw(), p_matrixfunction );
+            p_return.add( CRawTerm.of( l_assign ) );
+            return true;
+        }
+
+        if ( CCommon.isssignableto( p_rhs, Number.class ) )
+        {
+            l_assign.assign( p_scalarfunction.apply( p_rhs.<Number>raw().doubleValue() ) );
             p_return.add( CRawTerm.of( l_assign ) );
             return true;
         }
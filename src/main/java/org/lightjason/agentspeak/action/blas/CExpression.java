@@ -0,0 +1,917 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * fused elementwise expression of vectors / matrices.
+ * The action evaluates an arithmetic expression cell-by-cell in a single
+ * pass without intermediate structures. Each argument group is an expression
+ * string followed by the operands, the variables of the expression are bound
+ * to the operands in order of their first occurrence, operands can be matrices,
+ * vectors or scalars, all matrices / vectors must have the same shape. The expression
+ * supports +, -, *, /, ^, parentheses, numbers and the functions abs, exp, log,
+ * sqrt, min, max and pow, compiled expressions are cached by their text.
+ * The action fails on an invalid expression or on non-matching operands
+ *
+ * {@code [R1|R2] = .math/blas/expression( "A * 2 + B - C / 3", MatrixA, MatrixB, MatrixC, "max(X, 0) * w", Vector, 0.5 );}
+ */
+public final class CExpression extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1408726539915436826L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CExpression.class, "math", "blas" );
+    /**
+     * maximum number of cached expressions
+     */
+    private static final int CACHESIZE = 256;
+    /**
+     * cache of compiled expressions (least-recently-used)
+     */
+    private static final Map<String, CCompiled> CACHE = Collections.synchronizedMap( new LinkedHashMap<>( CACHESIZE, 0.75f, true )
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 3196244720741583937L;
+
+        @Override
+        protected boolean removeEldestEntry( final Map.Entry<String, CCompiled> p_eldest )
+        {
+            return this.size() > CACHESIZE;
+        }
+    } );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        int l_index = 0;
+        while ( l_index < l_arguments.size() )
+        {
+            final String l_text = l_arguments.get( l_index ).raw();
+            final CCompiled l_expression;
+            try
+            {
+                l_expression = CExpression.compile( l_text );
+            }
+            catch ( final IllegalArgumentException l_exception )
+            {
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "expressionerror", l_text, l_exception.getMessage() )
+                );
+            }
+
+            final int l_end = l_index + 1 + l_expression.variables();
+            if ( l_end > l_arguments.size() )
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "operandnumber", l_text, l_expression.variables() )
+                );
+
+            try
+            {
+                p_return.add( CRawTerm.of( l_expression.apply( p_parallel, l_arguments.subList( l_index + 1, l_end ) ) ) );
+            }
+            catch ( final IllegalArgumentException l_exception )
+            {
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "operanderror", l_text, l_exception.getMessage() )
+                );
+            }
+
+            l_index = l_end;
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * returns the compiled expression of the cache
+     *
+     * @param p_expression expression text
+     * @return compiled expression
+     */
+    @Nonnull
+    private static CCompiled compile( @Nonnull final String p_expression )
+    {
+        final CCompiled l_compiled = CACHE.get( p_expression );
+        if ( l_compiled != null )
+            return l_compiled;
+
+        final CCompiled l_new = new CParser( p_expression ).parse();
+        CACHE.put( p_expression, l_new );
+        return l_new;
+    }
+
+
+    /**
+     * compiled expression, which is a postfix program and
+     * is evaluated on blocks of cells to keep the inner loops
+     * on primitive arrays
+     */
+    private static final class CCompiled
+    {
+        /**
+         * number of cells of a block
+         */
+        private static final int BLOCK = 1024;
+        /**
+         * maximum number of chunks on a parallel execution
+         */
+        private static final int CHUNKS = 4 * CParallel.PARALLELISM;
+        /**
+         * variable names in binding order
+         */
+        private final List<String> m_variables;
+        /**
+         * program operations
+         */
+        private final EOperation[] m_code;
+        /**
+         * operation arguments (constant value or variable index)
+         */
+        private final double[] m_argument;
+        /**
+         * maximum stack depth
+         */
+        private final int m_depth;
+
+        /**
+         * ctor
+         *
+         * @param p_variables variable names
+         * @param p_code program operations
+         * @param p_argument operation arguments
+         * @param p_depth maximum stack depth
+         */
+        CCompiled( @Nonnull final List<String> p_variables, @Nonnull final List<EOperation> p_code, @Nonnull final List<Double> p_argument,
+                   @Nonnegative final int p_depth )
+        {
+            m_variables = Collections.unmodifiableList( p_variables );
+            m_code = p_code.toArray( new EOperation[0] );
+            m_argument = p_argument.stream().mapToDouble( i -> i ).toArray();
+            m_depth = p_depth;
+        }
+
+        /**
+         * number of variables
+         *
+         * @return number of variables
+         */
+        int variables()
+        {
+            return m_variables.size();
+        }
+
+        /**
+         * evaluates the expression on the operands
+         *
+         * @param p_parallel parallel execution
+         * @param p_operands operand terms
+         * @return matrix, vector or scalar result
+         */
+        @Nonnull
+        Object apply( final boolean p_parallel, @Nonnull final List<ITerm> p_operands )
+        {
+            final double[] l_scalars = new double[p_operands.size()];
+            final List<Integer> l_structure = new ArrayList<>();
+            for ( int i = 0; i < l_scalars.length; i++ )
+                if ( CCommon.isssignableto( p_operands.get( i ), Number.class ) )
+                    l_scalars[i] = p_operands.get( i ).<Number>raw().doubleValue();
+                else if ( CCommon.isssignableto( p_operands.get( i ), DoubleMatrix2D.class ) || CCommon.isssignableto( p_operands.get( i ), DoubleMatrix1D.class ) )
+                    l_structure.add( i );
+                else
+                    throw new IllegalArgumentException( MessageFormat.format( "operand [{0}] is not a number, vector or matrix", m_variables.get( i ) ) );
+
+            if ( l_structure.isEmpty() )
+            {
+                final double[] l_result = new double[1];
+                this.evaluate( false, new IBlock[0], new int[0], l_scalars, l_result );
+                return l_result[0];
+            }
+
+            final int[] l_index = l_structure.stream().mapToInt( i -> i ).toArray();
+            return CCommon.isssignableto( p_operands.get( l_index[0] ), DoubleMatrix2D.class )
+                   ? this.matrix( p_parallel, p_operands, l_index, l_scalars )
+                   : this.vector( p_parallel, p_operands, l_index, l_scalars );
+        }
+
+        /**
+         * evaluates the expression on matrix operands
+         *
+         * @param p_parallel parallel execution
+         * @param p_operands operands
+         * @param p_index indices of the matrix operands
+         * @param p_scalars values of the scalar operands
+         * @return result matrix
+         */
+        @Nonnull
+        private DoubleMatrix2D matrix( final boolean p_parallel, @Nonnull final List<ITerm> p_operands, @Nonnull final int[] p_index, @Nonnull final double[] p_scalars )
+        {
+            final DoubleMatrix2D l_first = p_operands.get( p_index[0] ).raw();
+            final IBlock[] l_blocks = new IBlock[p_index.length];
+            for ( int i = 0; i < p_index.length; i++ )
+            {
+                if ( !CCommon.isssignableto( p_operands.get( p_index[i] ), DoubleMatrix2D.class ) )
+                    throw new IllegalArgumentException( MessageFormat.format( "operand [{0}] is not a matrix", m_variables.get( p_index[i] ) ) );
+
+                final DoubleMatrix2D l_matrix = p_operands.get( p_index[i] ).raw();
+                if ( l_matrix.rows() != l_first.rows() || l_matrix.columns() != l_first.columns() )
+                    throw new IllegalArgumentException( MessageFormat.format( "operand [{0}] has a different shape", m_variables.get( p_index[i] ) ) );
+
+                l_blocks[i] = l_matrix instanceof DenseDoubleMatrix2D && !l_matrix.isView()
+                              ? CCompiled.block( ( (DenseDoubleMatrix2D) l_matrix ).elements() )
+                              : ( p_target, p_start, p_length ) ->
+                              {
+                                  for ( int j = 0; j < p_length; j++ )
+                                      p_target[j] = l_matrix.getQuick( ( p_start + j ) / l_matrix.columns(), ( p_start + j ) % l_matrix.columns() );
+                              };
+            }
+
+            final DenseDoubleMatrix2D l_result = new DenseDoubleMatrix2D( l_first.rows(), l_first.columns() );
+            this.evaluate( p_parallel, l_blocks, p_index, p_scalars, l_result.elements() );
+            return l_result;
+        }
+
+        /**
+         * evaluates the expression on vector operands
+         *
+         * @param p_parallel parallel execution
+         * @param p_operands operands
+         * @param p_index indices of the vector operands
+         * @param p_scalars values of the scalar operands
+         * @return result vector
+         */
+        @Nonnull
+        private DoubleMatrix1D vector( final boolean p_parallel, @Nonnull final List<ITerm> p_operands, @Nonnull final int[] p_index, @Nonnull final double[] p_scalars )
+        {
+            final DoubleMatrix1D l_first = p_operands.get( p_index[0] ).raw();
+            final IBlock[] l_blocks = new IBlock[p_index.length];
+            for ( int i = 0; i < p_index.length; i++ )
+            {
+                if ( !CCommon.isssignableto( p_operands.get( p_index[i] ), DoubleMatrix1D.class ) )
+                    throw new IllegalArgumentException( MessageFormat.format( "operand [{0}] is not a vector", m_variables.get( p_index[i] ) ) );
+
+                final DoubleMatrix1D l_vector = p_operands.get( p_index[i] ).raw();
+                if ( l_vector.size() != l_first.size() )
+                    throw new IllegalArgumentException( MessageFormat.format( "operand [{0}] has a different size", m_variables.get( p_index[i] ) ) );
+
+                l_blocks[i] = l_vector instanceof DenseDoubleMatrix1D && !l_vector.isView()
+                              ? CCompiled.block( ( (DenseDoubleMatrix1D) l_vector ).elements() )
+                              : ( p_target, p_start, p_length ) ->
+                              {
+                                  for ( int j = 0; j < p_length; j++ )
+                                      p_target[j] = l_vector.getQuick( p_start + j );
+                              };
+            }
+
+            final DenseDoubleMatrix1D l_result = new DenseDoubleMatrix1D( (int) l_first.size() );
+            this.evaluate( p_parallel, l_blocks, p_index, p_scalars, l_result.elements() );
+            return l_result;
+        }
+
+        /**
+         * creates a block reader of a backing array
+         *
+         * @param p_elements elements
+         * @return block reader
+         */
+        @Nonnull
+        private static IBlock block( @Nonnull final double[] p_elements )
+        {
+            return ( p_target, p_start, p_length ) -> System.arraycopy( p_elements, p_start, p_target, 0, p_length );
+        }
+
+        /**
+         * evaluates the program into the result, on a parallel
+         * execution the blocks are split into independent chunks
+         *
+         * @param p_parallel parallel execution
+         * @param p_blocks block readers of the structure operands
+         * @param p_index variable indices of the structure operands
+         * @param p_scalars values of the scalar operands
+         * @param p_result result array
+         */
+        private void evaluate( final boolean p_parallel, @Nonnull final IBlock[] p_blocks, @Nonnull final int[] p_index,
+                               @Nonnull final double[] p_scalars, @Nonnull final double[] p_result )
+        {
+            final int l_blocks = ( p_result.length + BLOCK - 1 ) / BLOCK;
+            if ( !CParallel.parallel( p_parallel, l_blocks, p_result.length ) )
+            {
+                this.evaluate( p_blocks, p_index, p_scalars, p_result, 0, p_result.length );
+                return;
+            }
+
+            final int l_chunks = Math.min( l_blocks, CHUNKS );
+            CParallel.execute( true, () -> IntStream.range( 0, l_chunks )
+                                                    .parallel()
+                                                    .forEach( i -> this.evaluate(
+                                                        p_blocks, p_index, p_scalars, p_result,
+                                                        i * l_blocks / l_chunks * BLOCK,
+                                                        Math.min( p_result.length, ( i + 1 ) * l_blocks / l_chunks * BLOCK )
+                                                    ) ) );
+        }
+
+        /**
+         * evaluates the program block-by-block on a range of the result
+         *
+         * @param p_blocks block readers of the structure operands
+         * @param p_index variable indices of the structure operands
+         * @param p_scalars values of the scalar operands
+         * @param p_result result array
+         * @param p_start first cell (inclusive)
+         * @param p_end last cell (exclusive)
+         */
+        private void evaluate( @Nonnull final IBlock[] p_blocks, @Nonnull final int[] p_index, @Nonnull final double[] p_scalars,
+                               @Nonnull final double[] p_result, @Nonnegative final int p_start, @Nonnegative final int p_end )
+        {
+            final int l_block = Math.min( BLOCK, p_end - p_start );
+            final double[][] l_variables = new double[p_scalars.length][l_block];
+            final double[][] l_stack = new double[m_depth][l_block];
+            for ( int i = 0; i < p_scalars.length; i++ )
+                Arrays.fill( l_variables[i], p_scalars[i] );
+
+            for ( int l_start = p_start; l_start < p_end; l_start += l_block )
+            {
+                final int l_length = Math.min( l_block, p_end - l_start );
+                for ( int i = 0; i < p_blocks.length; i++ )
+                    p_blocks[i].read( l_variables[p_index[i]], l_start, l_length );
+
+                this.run( l_variables, l_stack, l_length );
+                System.arraycopy( l_stack[0], 0, p_result, l_start, l_length );
+            }
+        }
+
+        /**
+         * runs the program on a single block
+         *
+         * @param p_variables variable values
+         * @param p_stack stack buffers
+         * @param p_length number of cells
+         */
+        private void run( @Nonnull final double[][] p_variables, @Nonnull final double[][] p_stack, @Nonnegative final int p_length )
+        {
+            int l_top = -1;
+            for ( int i = 0; i < m_code.length; i++ )
+            {
+                switch ( m_code[i] )
+                {
+                    case CONSTANT:
+                        Arrays.fill( p_stack[++l_top], 0, p_length, m_argument[i] );
+                        break;
+
+                    case VARIABLE:
+                        System.arraycopy( p_variables[(int) m_argument[i]], 0, p_stack[++l_top], 0, p_length );
+                        break;
+
+                    default:
+                        if ( m_code[i].arity() == 2 )
+                            m_code[i].apply( p_stack[--l_top], p_stack[l_top + 1], p_length );
+                        else
+                            m_code[i].apply( p_stack[l_top], p_stack[l_top], p_length );
+                }
+            }
+        }
+    }
+
+
+    /**
+     * block reader of a structure operand
+     */
+    @FunctionalInterface
+    private interface IBlock
+    {
+        /**
+         * reads consecutive cells
+         *
+         * @param p_target target array
+         * @param p_start first cell index
+         * @param p_length number of cells
+         */
+        void read( @Nonnull double[] p_target, int p_start, int p_length );
+    }
+
+
+    /**
+     * program operations, the result is
+     * stored in the left-hand-side array
+     */
+    private enum EOperation
+    {
+        CONSTANT( 0 ),
+        VARIABLE( 0 ),
+        NEGATE( 1 ),
+        ABS( 1 ),
+        EXP( 1 ),
+        LOG( 1 ),
+        SQRT( 1 ),
+        ADD( 2 ),
+        SUBTRACT( 2 ),
+        MULTIPLY( 2 ),
+        DIVIDE( 2 ),
+        POWER( 2 ),
+        MIN( 2 ),
+        MAX( 2 );
+
+        /**
+         * number of stack arguments
+         */
+        private final int m_arity;
+
+        /**
+         * ctor
+         *
+         * @param p_arity number of stack arguments
+         */
+        EOperation( final int p_arity )
+        {
+            m_arity = p_arity;
+        }
+
+        /**
+         * number of stack arguments
+         *
+         * @return arity
+         */
+        int arity()
+        {
+            return m_arity;
+        }
+
+        /**
+         * applies the operation
+         *
+         * @param p_lhs left-hand-side and result
+         * @param p_rhs right-hand-side (equal to the left-hand-side on unary operations)
+         * @param p_length number of cells
+         */
+        void apply( @Nonnull final double[] p_lhs, @Nonnull final double[] p_rhs, @Nonnegative final int p_length )
+        {
+            switch ( this )
+            {
+                case NEGATE:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = -p_lhs[i];
+                    return;
+
+                case ABS:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.abs( p_lhs[i] );
+                    return;
+
+                case EXP:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.exp( p_lhs[i] );
+                    return;
+
+                case LOG:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.log( p_lhs[i] );
+                    return;
+
+                case SQRT:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.sqrt( p_lhs[i] );
+                    return;
+
+                case ADD:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] += p_rhs[i];
+                    return;
+
+                case SUBTRACT:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] -= p_rhs[i];
+                    return;
+
+                case MULTIPLY:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] *= p_rhs[i];
+                    return;
+
+                case DIVIDE:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] /= p_rhs[i];
+                    return;
+
+                case POWER:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.pow( p_lhs[i], p_rhs[i] );
+                    return;
+
+                case MIN:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.min( p_lhs[i], p_rhs[i] );
+                    return;
+
+                case MAX:
+                    for ( int i = 0; i < p_length; i++ )
+                        p_lhs[i] = Math.max( p_lhs[i], p_rhs[i] );
+                    return;
+
+                default:
+                    throw new IllegalStateException( MessageFormat.format( "operation [{0}] is not applicable", this ) );
+            }
+        }
+    }
+
+
+    /**
+     * recursive-descent parser of expressions, which
+     * compiles the expression into a postfix program
+     */
+    private static final class CParser
+    {
+        /**
+         * expression text
+         */
+        private final String m_text;
+        /**
+         * variable names with their index
+         */
+        private final Map<String, Integer> m_variables = new LinkedHashMap<>();
+        /**
+         * program operations
+         */
+        private final List<EOperation> m_code = new ArrayList<>();
+        /**
+         * operation arguments
+         */
+        private final List<Double> m_argument = new ArrayList<>();
+        /**
+         * current stack depth
+         */
+        private int m_depth;
+        /**
+         * maximum stack depth
+         */
+        private int m_maximum;
+        /**
+         * current position
+         */
+        private int m_position;
+
+        /**
+         * ctor
+         *
+         * @param p_text expression text
+         */
+        CParser( @Nonnull final String p_text )
+        {
+            m_text = p_text;
+        }
+
+        /**
+         * parses the full expression
+         *
+         * @return compiled expression
+         */
+        @Nonnull
+        CCompiled parse()
+        {
+            this.sum();
+            this.whitespace();
+            if ( m_position < m_text.length() )
+                throw this.error( "unexpected character" );
+
+            return new CCompiled( new ArrayList<>( m_variables.keySet() ), m_code, m_argument, m_maximum );
+        }
+
+        /**
+         * sum := product ( ( "+" | "-" ) product )*
+         */
+        private void sum()
+        {
+            this.product();
+            while ( true )
+                if ( this.accept( '+' ) )
+                {
+                    this.product();
+                    this.emit( EOperation.ADD, 0 );
+                }
+                else if ( this.accept( '-' ) )
+                {
+                    this.product();
+                    this.emit( EOperation.SUBTRACT, 0 );
+                }
+                else
+                    return;
+        }
+
+        /**
+         * product := unary ( ( "*" | "/" ) unary )*
+         */
+        private void product()
+        {
+            this.unary();
+            while ( true )
+                if ( this.accept( '*' ) )
+                {
+                    this.unary();
+                    this.emit( EOperation.MULTIPLY, 0 );
+                }
+                else if ( this.accept( '/' ) )
+                {
+                    this.unary();
+                    this.emit( EOperation.DIVIDE, 0 );
+                }
+                else
+                    return;
+        }
+
+        /**
+         * unary := ( "-" | "+" ) unary | power
+         */
+        private void unary()
+        {
+            if ( this.accept( '-' ) )
+            {
+                this.unary();
+                this.emit( EOperation.NEGATE, 0 );
+                return;
+            }
+
+            if ( this.accept( '+' ) )
+            {
+                this.unary();
+                return;
+            }
+
+            this.power();
+        }
+
+        /**
+         * power := primary ( "^" unary )?
+         */
+        private void power()
+        {
+            this.primary();
+            if ( this.accept( '^' ) )
+            {
+                this.unary();
+                this.emit( EOperation.POWER, 0 );
+            }
+        }
+
+        /**
+         * primary := number | variable | function "(" arguments ")" | "(" sum ")"
+         */
+        private void primary()
+        {
+            if ( this.accept( '(' ) )
+            {
+                this.sum();
+                this.expect( ')' );
+                return;
+            }
+
+            this.whitespace();
+            if ( m_position >= m_text.length() )
+                throw this.error( "unexpected end" );
+
+            final char l_char = m_text.charAt( m_position );
+            if ( Character.isDigit( l_char ) || l_char == '.' )
+                this.number();
+            else if ( Character.isLetter( l_char ) || l_char == '_' )
+                this.identifier();
+            else
+                throw this.error( "unexpected character" );
+        }
+
+        /**
+         * parses a number literal
+         */
+        private void number()
+        {
+            final int l_start = m_position;
+            while ( m_position < m_text.length() && ( Character.isDigit( m_text.charAt( m_position ) ) || m_text.charAt( m_position ) == '.' ) )
+                m_position++;
+
+            if ( m_position < m_text.length() && ( m_text.charAt( m_position ) == 'e' || m_text.charAt( m_position ) == 'E' ) )
+            {
+                m_position++;
+                if ( m_position < m_text.length() && ( m_text.charAt( m_position ) == '+' || m_text.charAt( m_position ) == '-' ) )
+                    m_position++;
+                while ( m_position < m_text.length() && Character.isDigit( m_text.charAt( m_position ) ) )
+                    m_position++;
+            }
+
+            try
+            {
+                this.emit( EOperation.CONSTANT, Double.parseDouble( m_text.substring( l_start, m_position ) ) );
+            }
+            catch ( final NumberFormatException l_exception )
+            {
+                throw this.error( "invalid number" );
+            }
+        }
+
+        /**
+         * parses a variable or function call
+         */
+        private void identifier()
+        {
+            final int l_start = m_position;
+            while ( m_position < m_text.length() && ( Character.isLetterOrDigit( m_text.charAt( m_position ) ) || m_text.charAt( m_position ) == '_' ) )
+                m_position++;
+
+            final String l_name = m_text.substring( l_start, m_position );
+            if ( !this.accept( '(' ) )
+            {
+                this.emit( EOperation.VARIABLE, m_variables.computeIfAbsent( l_name, i -> m_variables.size() ) );
+                return;
+            }
+
+            int l_arguments = 0;
+            do
+            {
+                this.sum();
+                l_arguments++;
+            }
+            while ( this.accept( ',' ) );
+            this.expect( ')' );
+
+            final EOperation l_function = this.function( l_name.toLowerCase( Locale.ROOT ) );
+            if ( l_function.arity() != l_arguments )
+                throw this.error( MessageFormat.format( "function [{0}] needs {1} arguments", l_name, l_function.arity() ) );
+
+            this.emit( l_function, 0 );
+        }
+
+        /**
+         * returns the operation of a function name
+         *
+         * @param p_name function name
+         * @return operation
+         */
+        @Nonnull
+        private EOperation function( @Nonnull final String p_name )
+        {
+            switch ( p_name )
+            {
+                case "abs":
+                    return EOperation.ABS;
+
+                case "exp":
+                    return EOperation.EXP;
+
+                case "log":
+                    return EOperation.LOG;
+
+                case "sqrt":
+                    return EOperation.SQRT;
+
+                case "min":
+                    return EOperation.MIN;
+
+                case "max":
+                    return EOperation.MAX;
+
+                case "pow":
+                    return EOperation.POWER;
+
+                default:
+                    throw this.error( MessageFormat.format( "unknown function [{0}]", p_name ) );
+            }
+        }
+
+        /**
+         * appends an operation to the program
+         *
+         * @param p_operation operation
+         * @param p_argument argument
+         */
+        private void emit( @Nonnull final EOperation p_operation, final double p_argument )
+        {
+            m_code.add( p_operation );
+            m_argument.add( p_argument );
+
+            m_depth += p_operation.arity() == 0 ? 1 : 1 - p_operation.arity();
+            m_maximum = Math.max( m_maximum, m_depth );
+        }
+
+        /**
+         * skips whitespaces and consumes the character if it exists
+         *
+         * @param p_char character
+         * @return character is consumed
+         */
+        private boolean accept( final char p_char )
+        {
+            this.whitespace();
+            if ( m_position < m_text.length() && m_text.charAt( m_position ) == p_char )
+            {
+                m_position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * consumes a character or fails
+         *
+         * @param p_char character
+         */
+        private void expect( final char p_char )
+        {
+            if ( !this.accept( p_char ) )
+                throw this.error( MessageFormat.format( "[{0}] expected", p_char ) );
+        }
+
+        /**
+         * skips whitespaces
+         */
+        private void whitespace()
+        {
+            while ( m_position < m_text.length() && Character.isWhitespace( m_text.charAt( m_position ) ) )
+                m_position++;
+        }
+
+        /**
+         * creates a parsing error
+         *
+         * @param p_message message
+         * @return exception
+         */
+        @Nonnull
+        private IllegalArgumentException error( @Nonnull final String p_message )
+        {
+            return new IllegalArgumentException( MessageFormat.format( "{0} at position {1}", p_message, m_position ) );
+        }
+    }
+}
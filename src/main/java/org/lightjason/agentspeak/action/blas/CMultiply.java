@@ -25,6 +25,8 @@ package org.lightjason.agentspeak.action.blas;
 
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatMatrix1D;
+import cern.colt.matrix.tfloat.FloatMatrix2D;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
@@ -37,7 +39,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -45,7 +49,10 @@ import java.util.stream.Stream;
  * defines matrix- / vector-products.
  * The action multiplies tupel-wise all unflatten arguments,
  * the action fails iif the multiply cannot executed e.g. on wrong
- * input
+ * input. Products with sparse operands only visit the nonzero
+ * elements and the result storage is chosen by the estimated density,
+ * single precision operands are multiplied in single precision, operands
+ * with different precision must be converted before
  *
  * {@code [M1|M2|M3] = .math/blas/multiply( Vector1, Vector2, [[Matrix1, Matrix2], Matrix3, Vector3] );}
  */
@@ -79,19 +86,33 @@ public final class CMultiply extends IBaseAlgebra
     public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return )
     {
-        if ( !StreamUtils.windowed(
-                CCommon.flatten( p_argument ),
-                2,
-                2
-            ).parallel().allMatch( i -> CCommon.streamconcatstrict(
-            cast( DoubleMatrix1D.class, DoubleMatrix1D.class, i.get( 0 ), i.get( 1 ), ( u, v ) -> DENSEALGEBRA.multOuter( u, v, null ), p_return ),
-            cast( DoubleMatrix2D.class, DoubleMatrix2D.class, i.get( 0 ), i.get( 1 ), DENSEALGEBRA::mult, p_return ),
-            cast( DoubleMatrix2D.class, DoubleMatrix1D.class, i.get( 0 ), i.get( 1 ), DENSEALGEBRA::mult, p_return ),
-            cast( DoubleMatrix1D.class, DoubleMatrix2D.class, i.get( 0 ), i.get( 1 ), ( u, v ) -> DENSEALGEBRA.mult( v, u ), p_return )
-            ).findFirst().orElse( false )
-        ) )
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<Optional<Object>> l_result = CParallel.collect(
+            CParallel.stream(
+                p_parallel,
+                StreamUtils.windowed( l_arguments.stream(), 2, 2 ).collect( Collectors.toList() ),
+                CParallel.workload( l_arguments )
+            ).map( i -> CCommon.streamconcatstrict(
+                cast( DoubleMatrix1D.class, DoubleMatrix1D.class, i.get( 0 ), i.get( 1 ), SPARSEALGEBRA::multOuter ),
+                cast( DoubleMatrix2D.class, DoubleMatrix2D.class, i.get( 0 ), i.get( 1 ), SPARSEALGEBRA::mult ),
+                cast( DoubleMatrix2D.class, DoubleMatrix1D.class, i.get( 0 ), i.get( 1 ), SPARSEALGEBRA::mult ),
+                cast( DoubleMatrix1D.class, DoubleMatrix2D.class, i.get( 0 ), i.get( 1 ), ( u, v ) -> SPARSEALGEBRA.mult( v, u ) ),
+                cast( FloatMatrix1D.class, FloatMatrix1D.class, i.get( 0 ), i.get( 1 ), ( u, v ) -> FLOATALGEBRA.multOuter( u, v, null ) ),
+                cast( FloatMatrix2D.class, FloatMatrix2D.class, i.get( 0 ), i.get( 1 ), FLOATALGEBRA::mult ),
+                cast( FloatMatrix2D.class, FloatMatrix1D.class, i.get( 0 ), i.get( 1 ), FLOATALGEBRA::mult ),
+                cast( FloatMatrix1D.class, FloatMatrix2D.class, i.get( 0 ), i.get( 1 ), ( u, v ) -> FLOATALGEBRA.mult( v, u ) )
+                ).findFirst()
+            )
+        );
+
+        if ( !l_result.stream().allMatch( Optional::isPresent ) )
             throw new CExecutionIllegalStateException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "operatorerror" ) );
 
+        l_result.stream()
+                .map( Optional::get )
+                .map( CRawTerm::of )
+                .forEach( p_return::add );
+
         return Stream.empty();
     }
 
@@ -103,36 +124,16 @@ public final class CMultiply extends IBaseAlgebra
      * @param p_lhs left-hand-side
      * @param p_rhs right-hand-side
      * @param p_function executoin function
-     * @param p_return return value
      * @tparam U left-hand-side type
      * @tparam V right-hand-side type
-     * @return successfully flag
+     * @return stream with the result or empty
      */
-    private static <U, V> Stream<Boolean> cast( @Nonnull final Class<U> p_lhsclass, @Nonnull final Class<V> p_rhsclass,
-                                                @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs,
-                                                @Nonnull final BiFunction<U, V, ?> p_function, @Nonnull final List<ITerm> p_return )
+    private static <U, V> Stream<Object> cast( @Nonnull final Class<U> p_lhsclass, @Nonnull final Class<V> p_rhsclass,
+                                               @Nonnull final ITerm p_lhs, @Nonnull final ITerm p_rhs, @Nonnull final BiFunction<U, V, ?> p_function )
     {
         return CCommon.isssignableto( p_lhs, p_lhsclass ) && CCommon.isssignableto( p_rhs, p_rhsclass )
-               ? Stream.of( CMultiply.<U, V>apply( p_lhs, p_rhs, p_function, p_return ) )
+               ? Stream.<Object>of( p_function.apply( p_lhs.raw(), p_rhs.raw() ) )
                : Stream.empty();
     }
 
-    /**
-     * apply method
-     *
-     * @param p_left first element
-     * @param p_right second element
-     * @param p_function function for the two elements
-     * @param p_return return list
-     * @return successful executed
-     *
-     * @tparam U first argument type
-     * @tparam V second argument type
-     */
-    private static <U, V> boolean apply( final ITerm p_left, final ITerm p_right, final BiFunction<U, V, ?> p_function, final List<ITerm> p_return )
-    {
-        p_return.add( CRawTerm.of( p_function.apply( p_left.raw(), p_right.raw() ) ) );
-        return true;
-    }
-
 }
@@ -0,0 +1,239 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import javax.annotation.Nonnull;
+
+
+/**
+ * single-pass tokenizer of number lists.
+ * The tokenizer reads numbers which are seperated by comma or
+ * whitespaces, a semicolon seperates rows or is handled as column
+ * seperator, the tokenizer does not use regular expressions and
+ * does not box values, decimal numbers with up to 15 digits are
+ * converted directly, all other tokens are passed to {@link Double#parseDouble(String)}
+ *
+ * {@code
+ * final CNumberTokenizer l_tokenizer = new CNumberTokenizer( "1, 2; 3 4", true );
+ * do
+ *     while ( l_tokenizer.hasnumber() )
+ *         l_tokenizer.number();
+ * while ( l_tokenizer.nextrow() );
+ * }
+ */
+public final class CNumberTokenizer
+{
+    /**
+     * exact powers of ten
+     */
+    private static final double[] POWER = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+    /**
+     * maximum exact mantissa
+     */
+    private static final long MANTISSA = 1L << 53;
+    /**
+     * string
+     */
+    private final String m_string;
+    /**
+     * semicolon seperates rows
+     */
+    private final boolean m_rows;
+    /**
+     * current position
+     */
+    private int m_position;
+
+    /**
+     * ctor
+     *
+     * @param p_string string
+     * @param p_rows semicolon seperates rows, otherwise it is a column seperator
+     */
+    public CNumberTokenizer( @Nonnull final String p_string, final boolean p_rows )
+    {
+        m_string = p_string;
+        m_rows = p_rows;
+    }
+
+    /**
+     * skips all column seperators and checks if a number exists within the current row
+     *
+     * @return number exists
+     */
+    public boolean hasnumber()
+    {
+        while ( m_position < m_string.length() && this.columnseparator( m_string.charAt( m_position ) ) )
+            m_position++;
+
+        return m_position < m_string.length() && m_string.charAt( m_position ) != ';';
+    }
+
+    /**
+     * reads the next number, {@link #hasnumber()} must be called before
+     *
+     * @return number
+     * @throws NumberFormatException on a token which is not a number
+     */
+    public double number()
+    {
+        final int l_start = m_position;
+        while ( m_position < m_string.length() && !this.columnseparator( m_string.charAt( m_position ) ) && m_string.charAt( m_position ) != ';' )
+            m_position++;
+
+        return parse( m_string, l_start, m_position );
+    }
+
+    /**
+     * moves to the next row, the current row must be read completely,
+     * trailing empty rows are ignored
+     *
+     * @return next row exists
+     */
+    public boolean nextrow()
+    {
+        if ( m_position >= m_string.length() )
+            return false;
+
+        m_position++;
+        for ( int i = m_position; i < m_string.length(); i++ )
+            if ( m_string.charAt( i ) != ';' )
+                return true;
+
+        m_position = m_string.length();
+        return false;
+    }
+
+    /**
+     * returns the number of rows of the string
+     *
+     * @return estimated number of rows, trailing empty rows are counted
+     */
+    public int rows()
+    {
+        int l_rows = 1;
+        for ( int i = m_string.indexOf( ';' ); i > -1; i = m_string.indexOf( ';', i + 1 ) )
+            l_rows++;
+        return l_rows;
+    }
+
+    /**
+     * checks a column seperator
+     *
+     * @param p_char character
+     * @return seperator
+     */
+    private boolean columnseparator( final char p_char )
+    {
+        return p_char == ',' || p_char == ' ' || p_char == '\t' || p_char == '\n' || p_char == '\r' || p_char == '\f' || p_char == '\u000B'
+               || !m_rows && p_char == ';';
+    }
+
+    /**
+     * parses a number of a string range, decimal numbers with an exact
+     * mantissa and power of ten are converted directly, otherwise
+     * the number is parsed by the java runtime
+     *
+     * @param p_string string
+     * @param p_start start index (inclusive)
+     * @param p_end end index (exclusive)
+     * @return number
+     * @throws NumberFormatException on a token which is not a number
+     */
+    public static double parse( @Nonnull final CharSequence p_string, final int p_start, final int p_end )
+    {
+        int l_index = p_start;
+        final boolean l_negative = l_index < p_end && p_string.charAt( l_index ) == '-';
+        if ( l_index < p_end && ( p_string.charAt( l_index ) == '-' || p_string.charAt( l_index ) == '+' ) )
+            l_index++;
+
+        long l_mantissa = 0;
+        int l_digits = 0;
+        int l_exponent = 0;
+
+        // integer and fraction digits
+        boolean l_fraction = false;
+        for ( ; l_index < p_end; l_index++ )
+        {
+            final char l_char = p_string.charAt( l_index );
+            if ( l_char == '.' && !l_fraction )
+            {
+                l_fraction = true;
+                continue;
+            }
+            if ( l_char < '0' || l_char > '9' )
+                break;
+
+            if ( l_mantissa >= MANTISSA )
+                return fallback( p_string, p_start, p_end );
+
+            l_mantissa = l_mantissa * 10 + ( l_char - '0' );
+            l_digits++;
+            if ( l_fraction )
+                l_exponent--;
+        }
+
+        // exponent
+        if ( l_digits > 0 && l_index < p_end && ( p_string.charAt( l_index ) == 'e' || p_string.charAt( l_index ) == 'E' ) )
+        {
+            l_index++;
+            final boolean l_negativeexponent = l_index < p_end && p_string.charAt( l_index ) == '-';
+            if ( l_index < p_end && ( p_string.charAt( l_index ) == '-' || p_string.charAt( l_index ) == '+' ) )
+                l_index++;
+
+            final int l_start = l_index;
+            int l_value = 0;
+            for ( ; l_index < p_end && p_string.charAt( l_index ) >= '0' && p_string.charAt( l_index ) <= '9' && l_value < 1000; l_index++ )
+                l_value = l_value * 10 + ( p_string.charAt( l_index ) - '0' );
+
+            if ( l_index == l_start )
+                return fallback( p_string, p_start, p_end );
+
+            l_exponent += l_negativeexponent ? -l_value : l_value;
+        }
+
+        if ( l_digits == 0 || l_index != p_end || l_mantissa >= MANTISSA || l_exponent < -22 || l_exponent > 22 )
+            return fallback( p_string, p_start, p_end );
+
+        final double l_value = l_exponent < 0 ? l_mantissa / POWER[-l_exponent] : l_mantissa * POWER[l_exponent];
+        return l_negative ? -l_value : l_value;
+    }
+
+    /**
+     * parses a number with the java runtime
+     *
+     * @param p_string string
+     * @param p_start start index (inclusive)
+     * @param p_end end index (exclusive)
+     * @return number
+     */
+    private static double fallback( @Nonnull final CharSequence p_string, final int p_start, final int p_end )
+    {
+        return Double.parseDouble( p_string.subSequence( p_start, p_end ).toString() );
+    }
+
+}
@@ -0,0 +1,366 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import cern.colt.function.tdouble.DoubleDoubleFunction;
+import cern.colt.function.tdouble.DoubleFunction;
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.WrapperDoubleMatrix2D;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+
+/**
+ * dense matrix with off-heap storage.
+ * The elements are stored row-major in a direct buffer outside
+ * of the garbage-collected heap, so large matrices are not scanned
+ * and copied by the garbage collector, views are created by the
+ * wrapper and read and write the buffer of this matrix, the
+ * size of a matrix is limited to 2 GB
+ */
+public final class COffHeapDoubleMatrix2D extends WrapperDoubleMatrix2D
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2887393580530839165L;
+    /**
+     * maximum number of elements
+     */
+    private static final long MAXIMUM = Integer.MAX_VALUE / Double.BYTES;
+    /**
+     * row-major elements
+     */
+    private final transient DoubleBuffer m_elements;
+
+    /**
+     * ctor
+     *
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     */
+    public COffHeapDoubleMatrix2D( @Nonnegative final int p_rows, @Nonnegative final int p_columns )
+    {
+        this( p_rows, p_columns, ByteBuffer.allocateDirect( Double.BYTES * capacity( p_rows, p_columns ) ).order( ByteOrder.nativeOrder() ).asDoubleBuffer() );
+    }
+
+    /**
+     * ctor
+     *
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     * @param p_elements row-major elements, the buffer is used without copy
+     */
+    public COffHeapDoubleMatrix2D( @Nonnegative final int p_rows, @Nonnegative final int p_columns, @Nonnull final DoubleBuffer p_elements )
+    {
+        super( null );
+        if ( p_elements.capacity() < capacity( p_rows, p_columns ) )
+            throw new IllegalArgumentException(
+                MessageFormat.format( "buffer capacity [{0}] is less than the matrix size [{1}x{2}]", p_elements.capacity(), p_rows, p_columns )
+            );
+
+        this.setUp( p_rows, p_columns );
+        m_elements = p_elements;
+    }
+
+    /**
+     * checks the size of the matrix
+     *
+     * @param p_rows number of rows
+     * @param p_columns number of columns
+     * @return number of elements
+     */
+    private static int capacity( @Nonnegative final int p_rows, @Nonnegative final int p_columns )
+    {
+        if ( p_rows < 0 || p_columns < 0 || (long) p_rows * p_columns > MAXIMUM )
+            throw new IllegalArgumentException( MessageFormat.format( "off-heap matrix size [{0}x{1}] exceeds the buffer limit", p_rows, p_columns ) );
+
+        return p_rows * p_columns;
+    }
+
+    @Override
+    public double getQuick( final int p_row, final int p_column )
+    {
+        return m_elements.get( p_row * columns + p_column );
+    }
+
+    @Override
+    public void setQuick( final int p_row, final int p_column, final double p_value )
+    {
+        m_elements.put( p_row * columns + p_column, p_value );
+    }
+
+    @Override
+    public Object elements()
+    {
+        return m_elements;
+    }
+
+    @Override
+    protected DoubleMatrix2D getContent()
+    {
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D like( final int p_rows, final int p_columns )
+    {
+        return new COffHeapDoubleMatrix2D( p_rows, p_columns );
+    }
+
+    @Override
+    public DoubleMatrix1D like1D( final int p_size )
+    {
+        return new DenseDoubleMatrix1D( p_size );
+    }
+
+    @Override
+    public DoubleMatrix1D vectorize()
+    {
+        final double[] l_elements = new double[rows * columns];
+        for ( int i = 0; i < rows; i++ )
+            for ( int j = 0; j < columns; j++ )
+                l_elements[j * rows + i] = m_elements.get( i * columns + j );
+        return new DenseDoubleMatrix1D( l_elements );
+    }
+
+    @Override
+    public DoubleMatrix2D assign( final double p_value )
+    {
+        for ( int i = 0, l_size = rows * columns; i < l_size; i++ )
+            m_elements.put( i, p_value );
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign( final double[] p_values )
+    {
+        if ( p_values.length != rows * columns )
+            throw new IllegalArgumentException( MessageFormat.format( "must have same number of cells: length={0}, rows()*columns()={1}", p_values.length, rows * columns ) );
+
+        final DoubleBuffer l_elements = m_elements.duplicate();
+        l_elements.clear();
+        l_elements.put( p_values );
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign( final DoubleFunction p_function )
+    {
+        for ( int i = 0, l_size = rows * columns; i < l_size; i++ )
+            m_elements.put( i, p_function.apply( m_elements.get( i ) ) );
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign( final DoubleMatrix2D p_other )
+    {
+        if ( p_other == this )
+            return this;
+
+        this.checkShape( p_other );
+        if ( p_other instanceof COffHeapDoubleMatrix2D )
+        {
+            final DoubleBuffer l_source = ( (COffHeapDoubleMatrix2D) p_other ).m_elements.duplicate();
+            final DoubleBuffer l_target = m_elements.duplicate();
+            l_source.clear().limit( rows * columns );
+            l_target.clear();
+            l_target.put( l_source );
+            return this;
+        }
+
+        for ( int i = 0; i < rows; i++ )
+            for ( int j = 0; j < columns; j++ )
+                m_elements.put( i * columns + j, p_other.getQuick( i, j ) );
+        return this;
+    }
+
+    @Override
+    public DoubleMatrix2D assign( final DoubleMatrix2D p_other, final DoubleDoubleFunction p_function )
+    {
+        this.checkShape( p_other );
+        for ( int i = 0; i < rows; i++ )
+            for ( int j = 0; j < columns; j++ )
+            {
+                final int l_index = i * columns + j;
+                m_elements.put( l_index, p_function.apply( m_elements.get( l_index ), p_other.getQuick( i, j ) ) );
+            }
+        return this;
+    }
+
+    @Override
+    public double zSum()
+    {
+        double l_sum = 0;
+        for ( int i = 0, l_size = rows * columns; i < l_size; i++ )
+            l_sum += m_elements.get( i );
+        return l_sum;
+    }
+
+    @Override
+    public DoubleMatrix1D zMult( final DoubleMatrix1D p_vector, final DoubleMatrix1D p_result,
+                                 final double p_alpha, final double p_beta, final boolean p_transpose )
+    {
+        if ( p_transpose )
+            return this.viewDice().zMult( p_vector, p_result, p_alpha, p_beta, false );
+
+        final DoubleMatrix1D l_result = p_result == null ? new DenseDoubleMatrix1D( rows ) : p_result;
+        if ( columns != p_vector.size() || rows > l_result.size() )
+            throw new IllegalArgumentException(
+                MessageFormat.format( "incompatible args: {0}, {1}, {2}", this.toStringShort(), p_vector.toStringShort(), l_result.toStringShort() )
+            );
+
+        final double[] l_vector = p_vector.toArray();
+        for ( int i = 0; i < rows; i++ )
+        {
+            double l_sum = 0;
+            for ( int j = 0, l_offset = i * columns; j < columns; j++ )
+                l_sum += m_elements.get( l_offset + j ) * l_vector[j];
+            l_result.setQuick( i, p_alpha * l_sum + p_beta * l_result.getQuick( i ) );
+        }
+        return l_result;
+    }
+
+    @Override
+    public DoubleMatrix2D zMult( final DoubleMatrix2D p_matrix, final DoubleMatrix2D p_result,
+                                 final double p_alpha, final double p_beta, final boolean p_transposeleft, final boolean p_transposeright )
+    {
+        if ( p_transposeleft )
+            return this.viewDice().zMult( p_matrix, p_result, p_alpha, p_beta, false, p_transposeright );
+        if ( p_transposeright )
+            return this.zMult( p_matrix.viewDice(), p_result, p_alpha, p_beta, false, false );
+
+        final DoubleMatrix2D l_result = p_result == null ? new COffHeapDoubleMatrix2D( rows, p_matrix.columns() ) : p_result;
+        if ( p_matrix.rows() != columns || l_result.rows() != rows || l_result.columns() != p_matrix.columns() || p_matrix == l_result || this == l_result )
+            throw new IllegalArgumentException(
+                MessageFormat.format( "incompatible args: {0}, {1}, {2}", this.toStringShort(), p_matrix.toStringShort(), l_result.toStringShort() )
+            );
+
+        // row-wise product, each row of the result accumulates the scaled rows of the right-hand-side
+        final double[] l_row = new double[p_matrix.columns()];
+        for ( int i = 0; i < rows; i++ )
+        {
+            Arrays.fill( l_row, 0 );
+            for ( int k = 0; k < columns; k++ )
+            {
+                final double l_value = m_elements.get( i * columns + k );
+                if ( l_value == 0 )
+                    continue;
+
+                for ( int j = 0; j < l_row.length; j++ )
+                    l_row[j] += l_value * p_matrix.getQuick( k, j );
+            }
+
+            for ( int j = 0; j < l_row.length; j++ )
+                l_result.setQuick( i, j, p_alpha * l_row[j] + p_beta * l_result.getQuick( i, j ) );
+        }
+        return l_result;
+    }
+
+    /**
+     * replaces the matrix on serialization, because
+     * the direct buffer cannot be serialized
+     *
+     * @return serialization proxy with the elements
+     */
+    private Object writeReplace()
+    {
+        final double[] l_elements = new double[rows * columns];
+        m_elements.duplicate().get( l_elements, 0, l_elements.length );
+        return new CProxy( rows, columns, l_elements );
+    }
+
+    /**
+     * the matrix is deserialized only by the proxy
+     *
+     * @param p_stream object stream
+     * @throws InvalidObjectException always
+     */
+    private void readObject( final ObjectInputStream p_stream ) throws InvalidObjectException
+    {
+        throw new InvalidObjectException( "off-heap matrix must be deserialized by the proxy" );
+    }
+
+
+    /**
+     * serialization proxy, which stores the elements
+     * on the heap and allocates a new direct buffer
+     * on deserialization
+     */
+    private static final class CProxy implements Serializable
+    {
+        /**
+         * serial id
+         */
+        private static final long serialVersionUID = 4190425934281052416L;
+        /**
+         * number of rows
+         */
+        private final int m_rows;
+        /**
+         * number of columns
+         */
+        private final int m_columns;
+        /**
+         * row-major elements
+         */
+        private final double[] m_elements;
+
+        /**
+         * ctor
+         *
+         * @param p_rows number of rows
+         * @param p_columns number of columns
+         * @param p_elements row-major elements
+         */
+        CProxy( @Nonnegative final int p_rows, @Nonnegative final int p_columns, @Nonnull final double[] p_elements )
+        {
+            m_rows = p_rows;
+            m_columns = p_columns;
+            m_elements = p_elements;
+        }
+
+        /**
+         * creates the off-heap matrix
+         *
+         * @return matrix
+         */
+        private Object readResolve()
+        {
+            return new COffHeapDoubleMatrix2D( m_rows, m_columns ).assign( m_elements );
+        }
+    }
+
+}
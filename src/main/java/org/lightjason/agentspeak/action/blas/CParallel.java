@@ -0,0 +1,304 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import cern.colt.matrix.AbstractMatrix;
+import edu.emory.mathcs.utils.ConcurrencyUtils;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * parallel execution of independent arguments.
+ * Arguments are processed in parallel only if the parallel flag of the
+ * action is set, more than one argument exists and the workload (number of
+ * matrix / vector cells) reaches the threshold, otherwise the execution
+ * is sequential to avoid the fork-join overhead on small calls. Parallel
+ * streams are evaluated on a dedicated fork-join pool, so linear algebra
+ * does not compete with the agent execution on the common pool. The
+ * parallelism of the pool, which is also used as thread number of Parallel
+ * Colt, and the threshold are read from the system properties or the
+ * configuration (blas.parallelism, blas.threshold), also the capacity of the
+ * default decomposition cache (blas.cachecapacity), invalid values are
+ * ignored and the defaults are used.
+ * Loading the class sets the thread number of Parallel Colt, which is a
+ * global setting, so it changes all Parallel Colt calls of the JVM
+ *
+ * {@code CParallel.collect( CParallel.stream( p_parallel, l_arguments ).map( ... ) ).forEach( p_return::add );}
+ */
+public final class CParallel
+{
+    /**
+     * prefix of the system properties
+     */
+    public static final String PROPERTYPREFIX = "org.lightjason.agentspeak.action.";
+    /**
+     * parallelism of the pool
+     */
+    public static final int PARALLELISM;
+    /**
+     * minimal number of cells for a parallel execution
+     */
+    public static final long THRESHOLD;
+    /**
+     * maximum number of cached decompositions of the default cache
+     */
+    public static final int CACHECAPACITY;
+    /**
+     * fork-join pool of the blas actions
+     */
+    private static final ForkJoinPool POOL;
+    /**
+     * maximum parallelism of a fork-join pool
+     */
+    private static final int MAXIMUMPARALLELISM = 0x7fff;
+
+    static
+    {
+        final Properties l_configuration = configuration();
+
+        PARALLELISM = (int) property( l_configuration, "blas.parallelism", Runtime.getRuntime().availableProcessors(), 1, MAXIMUMPARALLELISM );
+        THRESHOLD = property( l_configuration, "blas.threshold", 65536, 1, Long.MAX_VALUE );
+        CACHECAPACITY = (int) property( l_configuration, "blas.cachecapacity", 16, 0, Integer.MAX_VALUE );
+
+        POOL = new ForkJoinPool(
+            PARALLELISM,
+            i ->
+            {
+                final ForkJoinWorkerThread l_thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread( i );
+                l_thread.setName( "lightjason-blas-" + l_thread.getPoolIndex() );
+                l_thread.setDaemon( true );
+                return l_thread;
+            },
+            null,
+            false
+        );
+
+        ConcurrencyUtils.setNumberOfThreads( PARALLELISM );
+    }
+
+    /**
+     * ctor
+     */
+    private CParallel()
+    {
+    }
+
+    /**
+     * checks if a parallel execution should be used
+     *
+     * @param p_parallel parallel flag of the action
+     * @param p_elements number of independent elements
+     * @param p_workload workload
+     * @return parallel execution
+     */
+    public static boolean parallel( final boolean p_parallel, @Nonnegative final long p_elements, @Nonnegative final long p_workload )
+    {
+        return p_parallel && PARALLELISM > 1 && p_elements > 1 && p_workload >= THRESHOLD;
+    }
+
+    /**
+     * creates a stream of independent elements, a parallel
+     * stream must be evaluated with the terminal methods of
+     * this class
+     *
+     * @param p_parallel parallel flag of the action
+     * @param p_elements elements
+     * @param p_workload workload
+     * @tparam T element type
+     * @return parallel or sequential stream
+     */
+    @Nonnull
+    public static <T> Stream<T> stream( final boolean p_parallel, @Nonnull final List<T> p_elements, @Nonnegative final long p_workload )
+    {
+        return parallel( p_parallel, p_elements.size(), p_workload )
+               ? p_elements.parallelStream()
+               : p_elements.stream();
+    }
+
+    /**
+     * creates a stream of independent arguments, the
+     * workload is calculated by the arguments
+     *
+     * @param p_parallel parallel flag of the action
+     * @param p_arguments flatten arguments
+     * @return parallel or sequential stream
+     */
+    @Nonnull
+    public static Stream<ITerm> stream( final boolean p_parallel, @Nonnull final List<ITerm> p_arguments )
+    {
+        return stream( p_parallel, p_arguments, workload( p_arguments ) );
+    }
+
+    /**
+     * collects a stream in encounter order
+     *
+     * @param p_stream stream
+     * @tparam T element type
+     * @return list of elements
+     */
+    @Nonnull
+    public static <T> List<T> collect( @Nonnull final Stream<T> p_stream )
+    {
+        return evaluate( p_stream.isParallel(), () -> p_stream.collect( Collectors.toList() ) );
+    }
+
+    /**
+     * checks if all elements match the predicate
+     *
+     * @param p_stream stream
+     * @param p_predicate predicate
+     * @tparam T element type
+     * @return all elements match
+     */
+    public static <T> boolean allMatch( @Nonnull final Stream<T> p_stream, @Nonnull final Predicate<? super T> p_predicate )
+    {
+        return evaluate( p_stream.isParallel(), () -> p_stream.allMatch( p_predicate ) );
+    }
+
+    /**
+     * evaluates a function, which runs parallel streams,
+     * on the pool
+     *
+     * @param p_parallel parallel execution
+     * @param p_function function
+     * @tparam R result type
+     * @return function result
+     */
+    public static <R> R evaluate( final boolean p_parallel, @Nonnull final Supplier<R> p_function )
+    {
+        return p_parallel && !POOL.equals( ForkJoinTask.getPool() )
+               ? POOL.submit( p_function::get ).join()
+               : p_function.get();
+    }
+
+    /**
+     * executes a runnable, which runs parallel streams,
+     * on the pool
+     *
+     * @param p_parallel parallel execution
+     * @param p_runnable runnable
+     */
+    public static void execute( final boolean p_parallel, @Nonnull final Runnable p_runnable )
+    {
+        evaluate( p_parallel, () ->
+        {
+            p_runnable.run();
+            return null;
+        } );
+    }
+
+    /**
+     * returns the workload of arguments
+     *
+     * @param p_arguments arguments
+     * @return number of matrix / vector cells
+     */
+    @Nonnegative
+    public static long workload( @Nonnull final Collection<ITerm> p_arguments )
+    {
+        return p_arguments.stream()
+                          .filter( i -> CCommon.isssignableto( i, AbstractMatrix.class ) )
+                          .mapToLong( i -> i.<AbstractMatrix>raw().size() )
+                          .sum();
+    }
+
+    /**
+     * returns a numeric setting, the system property overwrites
+     * the configuration, a value which is not a number or
+     * outside of the range is ignored
+     *
+     * @param p_configuration configuration
+     * @param p_key key
+     * @param p_default default value
+     * @param p_minimum minimum value
+     * @param p_maximum maximum value
+     * @return value
+     */
+    @Nonnegative
+    private static long property( @Nonnull final Properties p_configuration, @Nonnull final String p_key,
+                                  @Nonnegative final long p_default, @Nonnegative final long p_minimum, @Nonnegative final long p_maximum )
+    {
+        final String l_value = System.getProperty( PROPERTYPREFIX + p_key, p_configuration.getProperty( p_key, "" ) ).trim();
+        try
+        {
+            final long l_number = Long.parseLong( l_value );
+            return l_number >= p_minimum && l_number <= p_maximum ? l_number : p_default;
+        }
+        catch ( final NumberFormatException l_exception )
+        {
+            return p_default;
+        }
+    }
+
+    /**
+     * reads the configuration, the resource path is shared
+     * with other packages, so all resources are merged, on
+     * a reading error the defaults are used
+     *
+     * @return configuration
+     */
+    @Nonnull
+    private static Properties configuration()
+    {
+        final Properties l_configuration = new Properties();
+        try
+        {
+            for ( final URL l_url : Collections.list( CParallel.class.getClassLoader().getResources( "org/lightjason/agentspeak/configuration.properties" ) ) )
+                try ( InputStream l_stream = l_url.openStream() )
+                {
+                    final Properties l_properties = new Properties();
+                    l_properties.load( l_stream );
+                    l_properties.stringPropertyNames()
+                                .stream()
+                                .filter( i -> i.startsWith( "blas." ) )
+                                .forEach( i -> l_configuration.setProperty( i, l_properties.getProperty( i ) ) );
+                }
+        }
+        catch ( final IOException l_exception )
+        {
+            return new Properties();
+        }
+
+        return l_configuration;
+    }
+
+}
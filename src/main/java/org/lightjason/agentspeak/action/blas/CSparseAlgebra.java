@@ -0,0 +1,416 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas;
+
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.matrix.AbstractMatrix;
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.algo.DenseDoubleAlgebra;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+
+
+/**
+ * algebra operations which respect the storage type.
+ * Products with at least one sparse operand are calculated
+ * row-wise (Gustavson) and visit only the nonzero elements of the
+ * sparse operands, the storage type of the result is chosen by
+ * the estimated density, products of dense operands are passed
+ * to the dense algebra
+ */
+public final class CSparseAlgebra
+{
+    /**
+     * default instance
+     */
+    public static final CSparseAlgebra DEFAULT = new CSparseAlgebra( DenseDoubleAlgebra.DEFAULT, 0.25 );
+    /**
+     * dense algebra
+     */
+    private final DenseDoubleAlgebra m_dense;
+    /**
+     * density threshold, a result with a larger
+     * estimated density will be stored dense
+     */
+    private final double m_threshold;
+
+    /**
+     * ctor
+     *
+     * @param p_dense dense algebra
+     * @param p_threshold density threshold
+     */
+    public CSparseAlgebra( @Nonnull final DenseDoubleAlgebra p_dense, @Nonnegative final double p_threshold )
+    {
+        m_dense = p_dense;
+        m_threshold = p_threshold;
+    }
+
+    /**
+     * checks if a structure uses a sparse storage
+     * which can be traversed by their nonzero elements
+     *
+     * @param p_matrix matrix or vector
+     * @return sparse flag
+     */
+    public static boolean issparse( @Nonnull final AbstractMatrix p_matrix )
+    {
+        return !p_matrix.isView()
+               && ( p_matrix instanceof SparseDoubleMatrix2D
+                    || p_matrix instanceof SparseRCDoubleMatrix2D
+                    || p_matrix instanceof SparseCCDoubleMatrix2D
+                    || p_matrix instanceof SparseDoubleMatrix1D );
+    }
+
+    /**
+     * density of a structure, dense structures
+     * are not scanned and return always one
+     *
+     * @param p_matrix matrix or vector
+     * @return ratio of nonzero elements
+     */
+    @Nonnegative
+    public static double density( @Nonnull final AbstractMatrix p_matrix )
+    {
+        if ( p_matrix.size() == 0 )
+            return 0;
+
+        if ( p_matrix instanceof DoubleMatrix2D && CSparseAlgebra.issparse( p_matrix ) )
+            return ( (DoubleMatrix2D) p_matrix ).cardinality() / (double) p_matrix.size();
+
+        if ( p_matrix instanceof DoubleMatrix1D && CSparseAlgebra.issparse( p_matrix ) )
+            return ( (DoubleMatrix1D) p_matrix ).cardinality() / (double) p_matrix.size();
+
+        return 1;
+    }
+
+    /**
+     * estimated density of a product, each cell of the product
+     * is the sum of p_inner products and is assumed to be zero iif
+     * all products are zero
+     *
+     * @param p_lhs density of the left-hand-side
+     * @param p_rhs density of the right-hand-side
+     * @param p_inner inner dimension of the product
+     * @return estimated density
+     */
+    @Nonnegative
+    public static double density( @Nonnegative final double p_lhs, @Nonnegative final double p_rhs, @Nonnegative final long p_inner )
+    {
+        return 1 - Math.pow( 1 - p_lhs * p_rhs, p_inner );
+    }
+
+    /**
+     * matrix-matrix product
+     *
+     * @param p_lhs left-hand-side matrix
+     * @param p_rhs right-hand-side matrix
+     * @return product
+     */
+    @Nonnull
+    public DoubleMatrix2D mult( @Nonnull final DoubleMatrix2D p_lhs, @Nonnull final DoubleMatrix2D p_rhs )
+    {
+        if ( !CSparseAlgebra.issparse( p_lhs ) && !CSparseAlgebra.issparse( p_rhs ) )
+            return m_dense.mult( p_lhs, p_rhs );
+
+        if ( p_lhs.columns() != p_rhs.rows() )
+            throw new IllegalArgumentException(
+                MessageFormat.format( "matrix inner dimensions must agree: {0}, {1}", p_lhs.toStringShort(), p_rhs.toStringShort() )
+            );
+
+        final SparseRCDoubleMatrix2D l_lhs = CSparseAlgebra.rowcompressed( p_lhs );
+        final SparseRCDoubleMatrix2D l_rhs = CSparseAlgebra.rowcompressed( p_rhs );
+        final DoubleMatrix2D l_result = this.matrix(
+            p_lhs.rows(), p_rhs.columns(),
+            CSparseAlgebra.density( CSparseAlgebra.density( p_lhs ), CSparseAlgebra.density( p_rhs ), p_lhs.columns() )
+        );
+
+        // row accumulator with the indices of the touched columns
+        final double[] l_row = new double[p_rhs.columns()];
+        final boolean[] l_touched = new boolean[p_rhs.columns()];
+        final int[] l_index = new int[p_rhs.columns()];
+
+        for ( int i = 0; i < p_lhs.rows(); i++ )
+        {
+            int l_count = 0;
+
+            if ( l_lhs == null )
+            {
+                for ( int k = 0; k < p_lhs.columns(); k++ )
+                {
+                    final double l_value = p_lhs.getQuick( i, k );
+                    if ( l_value != 0 )
+                        l_count = CSparseAlgebra.accumulate( p_rhs, l_rhs, k, l_value, l_row, l_touched, l_index, l_count );
+                }
+            }
+            else
+            {
+                final int[] l_pointer = l_lhs.getRowPointers();
+                final int[] l_column = l_lhs.getColumnIndexes();
+                final double[] l_values = l_lhs.getValues();
+
+                for ( int p = l_pointer[i]; p < l_pointer[i + 1]; p++ )
+                    l_count = CSparseAlgebra.accumulate( p_rhs, l_rhs, l_column[p], l_values[p], l_row, l_touched, l_index, l_count );
+            }
+
+            for ( int j = 0; j < l_count; j++ )
+            {
+                final int l_column = l_index[j];
+                if ( l_row[l_column] != 0 )
+                    l_result.setQuick( i, l_column, l_row[l_column] );
+
+                l_row[l_column] = 0;
+                l_touched[l_column] = false;
+            }
+        }
+
+        return l_result;
+    }
+
+    /**
+     * matrix-vector product
+     *
+     * @param p_matrix matrix
+     * @param p_vector vector
+     * @return product
+     */
+    @Nonnull
+    public DoubleMatrix1D mult( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DoubleMatrix1D p_vector )
+    {
+        if ( !CSparseAlgebra.issparse( p_matrix ) && !CSparseAlgebra.issparse( p_vector ) )
+            return m_dense.mult( p_matrix, p_vector );
+
+        if ( p_matrix.columns() != p_vector.size() )
+            throw new IllegalArgumentException(
+                MessageFormat.format( "matrix-vector dimensions must agree: {0}, {1}", p_matrix.toStringShort(), p_vector.toStringShort() )
+            );
+
+        final double[] l_result = new double[p_matrix.rows()];
+        final SparseRCDoubleMatrix2D l_matrix = CSparseAlgebra.rowcompressed( p_matrix );
+
+        if ( l_matrix != null )
+        {
+            final int[] l_pointer = l_matrix.getRowPointers();
+            final int[] l_column = l_matrix.getColumnIndexes();
+            final double[] l_values = l_matrix.getValues();
+
+            for ( int i = 0; i < l_result.length; i++ )
+                for ( int p = l_pointer[i]; p < l_pointer[i + 1]; p++ )
+                    l_result[i] += l_values[p] * p_vector.getQuick( l_column[p] );
+        }
+        else
+        {
+            // dense matrix with sparse vector, so only the columns of the nonzero vector elements are used
+            final IntArrayList l_index = new IntArrayList();
+            final DoubleArrayList l_values = new DoubleArrayList();
+            CSparseAlgebra.nonzeros( p_vector, l_index, l_values );
+
+            for ( int k = 0; k < l_index.size(); k++ )
+                for ( int i = 0; i < l_result.length; i++ )
+                    l_result[i] += p_matrix.getQuick( i, l_index.getQuick( k ) ) * l_values.getQuick( k );
+        }
+
+        return this.vector(
+            l_result,
+            CSparseAlgebra.density( CSparseAlgebra.density( p_matrix ), CSparseAlgebra.density( p_vector ), p_matrix.columns() )
+        );
+    }
+
+    /**
+     * outer product of two vectors
+     *
+     * @param p_lhs left-hand-side vector
+     * @param p_rhs right-hand-side vector
+     * @return product matrix
+     */
+    @Nonnull
+    public DoubleMatrix2D multOuter( @Nonnull final DoubleMatrix1D p_lhs, @Nonnull final DoubleMatrix1D p_rhs )
+    {
+        if ( !CSparseAlgebra.issparse( p_lhs ) && !CSparseAlgebra.issparse( p_rhs ) )
+            return m_dense.multOuter( p_lhs, p_rhs, null );
+
+        final IntArrayList l_lhsindex = new IntArrayList();
+        final DoubleArrayList l_lhsvalues = new DoubleArrayList();
+        CSparseAlgebra.nonzeros( p_lhs, l_lhsindex, l_lhsvalues );
+
+        final IntArrayList l_rhsindex = new IntArrayList();
+        final DoubleArrayList l_rhsvalues = new DoubleArrayList();
+        CSparseAlgebra.nonzeros( p_rhs, l_rhsindex, l_rhsvalues );
+
+        final DoubleMatrix2D l_result = this.matrix(
+            (int) p_lhs.size(), (int) p_rhs.size(),
+            CSparseAlgebra.density( p_lhs ) * CSparseAlgebra.density( p_rhs )
+        );
+
+        for ( int i = 0; i < l_lhsindex.size(); i++ )
+            for ( int j = 0; j < l_rhsindex.size(); j++ )
+                l_result.setQuick( l_lhsindex.getQuick( i ), l_rhsindex.getQuick( j ), l_lhsvalues.getQuick( i ) * l_rhsvalues.getQuick( j ) );
+
+        return l_result;
+    }
+
+    /**
+     * creates a matrix with the storage type of the density
+     *
+     * @param p_rows rows
+     * @param p_columns columns
+     * @param p_density estimated density
+     * @return empty matrix
+     */
+    @Nonnull
+    private DoubleMatrix2D matrix( @Nonnegative final int p_rows, @Nonnegative final int p_columns, @Nonnegative final double p_density )
+    {
+        return p_density > m_threshold
+               ? new DenseDoubleMatrix2D( p_rows, p_columns )
+               : new SparseDoubleMatrix2D( p_rows, p_columns );
+    }
+
+    /**
+     * creates a vector with the storage type of the density
+     *
+     * @param p_values values
+     * @param p_density estimated density
+     * @return vector
+     */
+    @Nonnull
+    private DoubleMatrix1D vector( @Nonnull final double[] p_values, @Nonnegative final double p_density )
+    {
+        if ( p_density > m_threshold )
+            return new DenseDoubleMatrix1D( p_values );
+
+        final DoubleMatrix1D l_vector = new SparseDoubleMatrix1D( p_values.length );
+        for ( int i = 0; i < p_values.length; i++ )
+            if ( p_values[i] != 0 )
+                l_vector.setQuick( i, p_values[i] );
+
+        return l_vector;
+    }
+
+    /**
+     * adds a scaled matrix row to the row accumulator
+     *
+     * @param p_matrix matrix
+     * @param p_compressed row-compressed matrix or null on dense matrix
+     * @param p_row row index
+     * @param p_scale scaling factor
+     * @param p_accumulator row accumulator
+     * @param p_touched touched flags of the accumulator
+     * @param p_index indices of touched columns
+     * @param p_count number of touched columns
+     * @return new number of touched columns
+     */
+    private static int accumulate( @Nonnull final DoubleMatrix2D p_matrix, final SparseRCDoubleMatrix2D p_compressed,
+                                   final int p_row, final double p_scale,
+                                   @Nonnull final double[] p_accumulator, @Nonnull final boolean[] p_touched,
+                                   @Nonnull final int[] p_index, final int p_count )
+    {
+        int l_count = p_count;
+
+        if ( p_compressed == null )
+        {
+            for ( int j = 0; j < p_accumulator.length; j++ )
+            {
+                p_accumulator[j] += p_scale * p_matrix.getQuick( p_row, j );
+                if ( !p_touched[j] )
+                {
+                    p_touched[j] = true;
+                    p_index[l_count++] = j;
+                }
+            }
+
+            return l_count;
+        }
+
+        final int[] l_pointer = p_compressed.getRowPointers();
+        final int[] l_column = p_compressed.getColumnIndexes();
+        final double[] l_values = p_compressed.getValues();
+
+        for ( int p = l_pointer[p_row]; p < l_pointer[p_row + 1]; p++ )
+        {
+            final int j = l_column[p];
+            p_accumulator[j] += p_scale * l_values[p];
+            if ( !p_touched[j] )
+            {
+                p_touched[j] = true;
+                p_index[l_count++] = j;
+            }
+        }
+
+        return l_count;
+    }
+
+    /**
+     * returns the row-compressed representation of a sparse matrix
+     *
+     * @param p_matrix matrix
+     * @return row-compressed matrix or null if the matrix is not sparse
+     */
+    private static SparseRCDoubleMatrix2D rowcompressed( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        if ( !CSparseAlgebra.issparse( p_matrix ) )
+            return null;
+
+        if ( p_matrix instanceof SparseRCDoubleMatrix2D )
+            return (SparseRCDoubleMatrix2D) p_matrix;
+
+        if ( p_matrix instanceof SparseCCDoubleMatrix2D )
+            return ( (SparseCCDoubleMatrix2D) p_matrix ).getRowCompressed();
+
+        return ( (SparseDoubleMatrix2D) p_matrix ).getRowCompressed( false );
+    }
+
+    /**
+     * returns the nonzero elements of a vector, sparse
+     * vectors are not scanned
+     *
+     * @param p_vector vector
+     * @param p_index index list
+     * @param p_values value list
+     */
+    private static void nonzeros( @Nonnull final DoubleMatrix1D p_vector, @Nonnull final IntArrayList p_index, @Nonnull final DoubleArrayList p_values )
+    {
+        if ( !CSparseAlgebra.issparse( p_vector ) )
+        {
+            p_vector.getNonZeros( p_index, p_values );
+            return;
+        }
+
+        ( (SparseDoubleMatrix1D) p_vector ).elements().forEachPair( ( i, j ) ->
+        {
+            p_index.add( (int) i );
+            p_values.add( j );
+            return true;
+        } );
+    }
+}
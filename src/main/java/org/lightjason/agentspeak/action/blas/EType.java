@@ -32,12 +32,19 @@ import java.util.stream.Collectors;
 
 
 /**
- * blas types
+ * blas types, sparse is hash-based, sparse-row and sparse-column
+ * are the compressed row (CSR) and compressed column (CSC) storages,
+ * offheap is a dense matrix storage outside of the heap,
+ * float is a dense storage with single precision
  */
 public enum EType
 {
     SPARSE,
-    DENSE;
+    SPARSE_ROW,
+    SPARSE_COLUMN,
+    DENSE,
+    OFFHEAP,
+    FLOAT;
 
     /**
      * set with names
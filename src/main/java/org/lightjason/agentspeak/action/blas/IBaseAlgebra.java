@@ -23,9 +23,14 @@
 
 package org.lightjason.agentspeak.action.blas;
 
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.algo.DenseDoubleAlgebra;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tfloat.algo.DenseFloatAlgebra;
 import org.lightjason.agentspeak.action.IBaseAction;
 
+import javax.annotation.Nonnull;
+
 
 /**
  * blas algebra operations e.g. inverse, determinate
@@ -37,9 +42,36 @@ public abstract class IBaseAlgebra extends IBaseAction
      * dense algebra
      */
     public static final DenseDoubleAlgebra DENSEALGEBRA = DenseDoubleAlgebra.DEFAULT;
+    /**
+     * storage-aware algebra
+     */
+    public static final CSparseAlgebra SPARSEALGEBRA = CSparseAlgebra.DEFAULT;
+    /**
+     * single precision algebra
+     */
+    public static final DenseFloatAlgebra FLOATALGEBRA = DenseFloatAlgebra.DEFAULT;
+    /**
+     * cache of decompositions
+     */
+    public static final CDecompositionCache DECOMPOSITION = CDecompositionCache.DEFAULT;
     /**
      * serial id
      */
     private static final long serialVersionUID = 8980414250195042661L;
 
+    /**
+     * returns a dense matrix for the dense decompositions,
+     * which give wrong results on compressed storages
+     *
+     * @param p_matrix matrix
+     * @return dense matrix
+     */
+    @Nonnull
+    public static DoubleMatrix2D dense( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        return p_matrix instanceof DenseDoubleMatrix2D
+               ? p_matrix
+               : new DenseDoubleMatrix2D( p_matrix.rows(), p_matrix.columns() ).assign( p_matrix );
+    }
+
 }
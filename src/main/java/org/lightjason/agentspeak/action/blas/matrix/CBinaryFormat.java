@@ -0,0 +1,405 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * binary matrix format.
+ * The file starts with a header of six little-endian integers (magic number,
+ * version, storage, rows, columns, nonzeros), dense matrices are stored
+ * row-major as doubles, sparse matrices are stored in compressed row
+ * storage (values, row pointers, column indices), the file is read and
+ * written with memory-mapped buffers, so the data are copied in bulk
+ * without any parsing
+ */
+final class CBinaryFormat
+{
+    /**
+     * magic number "LJBM"
+     */
+    static final int MAGIC = 0x4d424a4c;
+    /**
+     * format version
+     */
+    static final int VERSION = 1;
+    /**
+     * dense row-major storage
+     */
+    static final int DENSE = 0;
+    /**
+     * compressed row storage
+     */
+    static final int COMPRESSEDROW = 1;
+    /**
+     * header size in bytes
+     */
+    private static final int HEADER = 6 * Integer.BYTES;
+    /**
+     * maximum size of a mapped region in bytes
+     */
+    private static final int REGION = 1 << 30;
+    /**
+     * byte order
+     */
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * ctor
+     */
+    private CBinaryFormat()
+    {
+    }
+
+    /**
+     * reads a matrix
+     *
+     * @param p_path file
+     * @return matrix or null if the file is not a binary matrix
+     * @throws IOException on reading error
+     */
+    @Nullable
+    static DoubleMatrix2D read( @Nonnull final Path p_path ) throws IOException
+    {
+        try ( FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.READ ) )
+        {
+            if ( l_channel.size() < HEADER )
+                return null;
+
+            final ByteBuffer l_header = map( l_channel, FileChannel.MapMode.READ_ONLY, 0, HEADER );
+            if ( l_header.getInt() != MAGIC || l_header.getInt() != VERSION )
+                return null;
+
+            final int l_storage = l_header.getInt();
+            final int l_rows = l_header.getInt();
+            final int l_columns = l_header.getInt();
+            final int l_nonzeros = l_header.getInt();
+            if ( l_rows < 0 || l_columns < 0 || l_nonzeros < 0 )
+                return null;
+
+            switch ( l_storage )
+            {
+                case DENSE:
+                {
+                    final long l_size = (long) l_rows * l_columns;
+                    if ( l_size > Integer.MAX_VALUE || HEADER + l_size * Double.BYTES > l_channel.size() )
+                        return null;
+
+                    final double[] l_elements = new double[(int) l_size];
+                    read( l_channel, HEADER, l_elements, l_elements.length );
+                    return new DenseDoubleMatrix2D( l_rows, l_columns, l_elements, 0, 0, l_columns, 1, false );
+                }
+
+                case COMPRESSEDROW:
+                {
+                    final long l_pointer = HEADER + (long) l_nonzeros * Double.BYTES;
+                    if ( l_rows == Integer.MAX_VALUE || l_nonzeros > (long) l_rows * l_columns
+                         || l_pointer + ( l_rows + 1L + l_nonzeros ) * Integer.BYTES > l_channel.size() )
+                        return null;
+
+                    final SparseRCDoubleMatrix2D l_matrix = new SparseRCDoubleMatrix2D( l_rows, l_columns, l_nonzeros );
+                    read( l_channel, HEADER, l_matrix.getValues(), l_nonzeros );
+                    read( l_channel, l_pointer, l_matrix.getRowPointers(), l_rows + 1 );
+                    read( l_channel, l_pointer + ( l_rows + 1L ) * Integer.BYTES, l_matrix.getColumnIndexes(), l_nonzeros );
+                    return valid( l_matrix, l_nonzeros ) ? l_matrix : null;
+                }
+
+                default:
+                    return null;
+            }
+        }
+    }
+
+    /**
+     * checks the structure of a compressed row matrix,
+     * the row pointers must be ascending from zero to the
+     * number of nonzeros and the column indices within the matrix
+     *
+     * @param p_matrix matrix
+     * @param p_nonzeros number of nonzeros
+     * @return valid flag
+     */
+    private static boolean valid( @Nonnull final SparseRCDoubleMatrix2D p_matrix, @Nonnegative final int p_nonzeros )
+    {
+        final int[] l_pointers = p_matrix.getRowPointers();
+        if ( l_pointers[0] != 0 || l_pointers[p_matrix.rows()] != p_nonzeros )
+            return false;
+
+        for ( int i = 0; i < p_matrix.rows(); i++ )
+            if ( l_pointers[i] > l_pointers[i + 1] )
+                return false;
+
+        final int[] l_indices = p_matrix.getColumnIndexes();
+        for ( int i = 0; i < p_nonzeros; i++ )
+            if ( l_indices[i] < 0 || l_indices[i] >= p_matrix.columns() )
+                return false;
+
+        return true;
+    }
+
+    /**
+     * writes a matrix, sparse matrices are stored
+     * in compressed row storage, all other matrices dense
+     *
+     * @param p_path file
+     * @param p_matrix matrix
+     * @throws IOException on writing error
+     */
+    static void write( @Nonnull final Path p_path, @Nonnull final DoubleMatrix2D p_matrix ) throws IOException
+    {
+        try ( FileChannel l_channel = FileChannel.open( p_path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                        StandardOpenOption.READ, StandardOpenOption.WRITE ) )
+        {
+            final SparseRCDoubleMatrix2D l_sparse = compressed( p_matrix );
+            if ( l_sparse == null )
+            {
+                header( l_channel, DENSE, p_matrix.rows(), p_matrix.columns(), 0 );
+                write( l_channel, HEADER, dense( p_matrix ) );
+                return;
+            }
+
+            final int l_nonzeros = l_sparse.getRowPointers()[l_sparse.rows()];
+            final long l_pointer = HEADER + (long) l_nonzeros * Double.BYTES;
+            header( l_channel, COMPRESSEDROW, l_sparse.rows(), l_sparse.columns(), l_nonzeros );
+            write( l_channel, HEADER, l_sparse.getValues(), l_nonzeros );
+            write( l_channel, l_pointer, l_sparse.getRowPointers(), l_sparse.rows() + 1 );
+            write( l_channel, l_pointer + ( l_sparse.rows() + 1L ) * Integer.BYTES, l_sparse.getColumnIndexes(), l_nonzeros );
+        }
+    }
+
+    /**
+     * returns the compressed row storage of a sparse matrix
+     *
+     * @param p_matrix matrix
+     * @return compressed row matrix with sorted column indices or null on a dense matrix
+     */
+    @Nullable
+    private static SparseRCDoubleMatrix2D compressed( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        if ( !( p_matrix instanceof SparseDoubleMatrix2D || p_matrix instanceof SparseRCDoubleMatrix2D || p_matrix instanceof SparseCCDoubleMatrix2D ) )
+            return null;
+
+        // the compressed conversions of parallel colt fail on empty matrices
+        if ( p_matrix.cardinality() == 0 )
+            return new SparseRCDoubleMatrix2D( p_matrix.rows(), p_matrix.columns() );
+
+        if ( p_matrix instanceof SparseDoubleMatrix2D )
+            return ( (SparseDoubleMatrix2D) p_matrix ).getRowCompressed( true );
+
+        if ( p_matrix instanceof SparseCCDoubleMatrix2D )
+            return sorted( ( (SparseCCDoubleMatrix2D) p_matrix ).getRowCompressed() );
+
+        return ( (SparseRCDoubleMatrix2D) p_matrix ).hasColumnIndexesSorted()
+               ? (SparseRCDoubleMatrix2D) p_matrix
+               : sorted( (SparseRCDoubleMatrix2D) p_matrix.copy() );
+    }
+
+    /**
+     * sorts the column indices of a compressed row matrix in-place
+     *
+     * @param p_matrix matrix
+     * @return matrix
+     */
+    @Nonnull
+    private static SparseRCDoubleMatrix2D sorted( @Nonnull final SparseRCDoubleMatrix2D p_matrix )
+    {
+        if ( !p_matrix.hasColumnIndexesSorted() )
+            p_matrix.sortColumnIndexes();
+        return p_matrix;
+    }
+
+    /**
+     * returns the row-major elements of a matrix
+     *
+     * @param p_matrix matrix
+     * @return elements
+     */
+    @Nonnull
+    private static double[] dense( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        if ( p_matrix instanceof DenseDoubleMatrix2D && !p_matrix.isView() )
+            return (double[]) p_matrix.elements();
+
+        return (double[]) new DenseDoubleMatrix2D( p_matrix.rows(), p_matrix.columns() ).assign( p_matrix ).elements();
+    }
+
+    /**
+     * writes the header
+     *
+     * @param p_channel channel
+     * @param p_storage storage
+     * @param p_rows rows
+     * @param p_columns columns
+     * @param p_nonzeros number of nonzeros
+     * @throws IOException on writing error
+     */
+    private static void header( @Nonnull final FileChannel p_channel, final int p_storage, @Nonnegative final int p_rows,
+                                @Nonnegative final int p_columns, @Nonnegative final int p_nonzeros ) throws IOException
+    {
+        map( p_channel, FileChannel.MapMode.READ_WRITE, 0, HEADER )
+            .putInt( MAGIC )
+            .putInt( VERSION )
+            .putInt( p_storage )
+            .putInt( p_rows )
+            .putInt( p_columns )
+            .putInt( p_nonzeros );
+    }
+
+    /**
+     * maps a region of the file
+     *
+     * @param p_channel channel
+     * @param p_mode map mode
+     * @param p_position position in bytes
+     * @param p_size size in bytes
+     * @return mapped buffer
+     * @throws IOException on mapping error
+     */
+    @Nonnull
+    private static ByteBuffer map( @Nonnull final FileChannel p_channel, @Nonnull final FileChannel.MapMode p_mode,
+                                   final long p_position, final long p_size ) throws IOException
+    {
+        final MappedByteBuffer l_buffer = p_channel.map( p_mode, p_position, p_size );
+        l_buffer.order( ORDER );
+        return l_buffer;
+    }
+
+    /**
+     * reads doubles in regions
+     *
+     * @param p_channel channel
+     * @param p_position position in bytes
+     * @param p_target target array
+     * @param p_length number of elements
+     * @throws IOException on reading error
+     */
+    private static void read( @Nonnull final FileChannel p_channel, final long p_position, @Nonnull final double[] p_target,
+                              @Nonnegative final int p_length ) throws IOException
+    {
+        for ( int i = 0; i < p_length; )
+        {
+            final int l_count = Math.min( p_length - i, REGION / Double.BYTES );
+            map( p_channel, FileChannel.MapMode.READ_ONLY, p_position + (long) i * Double.BYTES, (long) l_count * Double.BYTES )
+                .asDoubleBuffer()
+                .get( p_target, i, l_count );
+            i += l_count;
+        }
+    }
+
+    /**
+     * reads integers in regions
+     *
+     * @param p_channel channel
+     * @param p_position position in bytes
+     * @param p_target target array
+     * @param p_length number of elements
+     * @throws IOException on reading error
+     */
+    private static void read( @Nonnull final FileChannel p_channel, final long p_position, @Nonnull final int[] p_target,
+                              @Nonnegative final int p_length ) throws IOException
+    {
+        for ( int i = 0; i < p_length; )
+        {
+            final int l_count = Math.min( p_length - i, REGION / Integer.BYTES );
+            map( p_channel, FileChannel.MapMode.READ_ONLY, p_position + (long) i * Integer.BYTES, (long) l_count * Integer.BYTES )
+                .asIntBuffer()
+                .get( p_target, i, l_count );
+            i += l_count;
+        }
+    }
+
+    /**
+     * writes doubles in regions
+     *
+     * @param p_channel channel
+     * @param p_position position in bytes
+     * @param p_source source array
+     * @throws IOException on writing error
+     */
+    private static void write( @Nonnull final FileChannel p_channel, final long p_position, @Nonnull final double[] p_source ) throws IOException
+    {
+        write( p_channel, p_position, p_source, p_source.length );
+    }
+
+    /**
+     * writes doubles in regions
+     *
+     * @param p_channel channel
+     * @param p_position position in bytes
+     * @param p_source source array
+     * @param p_length number of elements
+     * @throws IOException on writing error
+     */
+    private static void write( @Nonnull final FileChannel p_channel, final long p_position, @Nonnull final double[] p_source,
+                               @Nonnegative final int p_length ) throws IOException
+    {
+        for ( int i = 0; i < p_length; )
+        {
+            final int l_count = Math.min( p_length - i, REGION / Double.BYTES );
+            map( p_channel, FileChannel.MapMode.READ_WRITE, p_position + (long) i * Double.BYTES, (long) l_count * Double.BYTES )
+                .asDoubleBuffer()
+                .put( p_source, i, l_count );
+            i += l_count;
+        }
+    }
+
+    /**
+     * writes integers in regions
+     *
+     * @param p_channel channel
+     * @param p_position position in bytes
+     * @param p_source source array
+     * @param p_length number of elements
+     * @throws IOException on writing error
+     */
+    private static void write( @Nonnull final FileChannel p_channel, final long p_position, @Nonnull final int[] p_source,
+                               @Nonnegative final int p_length ) throws IOException
+    {
+        for ( int i = 0; i < p_length; )
+        {
+            final int l_count = Math.min( p_length - i, REGION / Integer.BYTES );
+            map( p_channel, FileChannel.MapMode.READ_WRITE, p_position + (long) i * Integer.BYTES, (long) l_count * Integer.BYTES )
+                .asIntBuffer()
+                .put( p_source, i, l_count );
+            i += l_count;
+        }
+    }
+
+}
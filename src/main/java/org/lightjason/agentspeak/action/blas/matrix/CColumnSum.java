@@ -27,6 +27,7 @@ import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
@@ -39,6 +40,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -85,20 +87,20 @@ public final class CColumnSum extends IBaseAlgebra
     )
     {
         final EType l_type = CCommon.flatten( p_argument )
-                                    .parallel()
                                     .filter( i -> CCommon.isssignableto( i, String.class ) )
                                     .findFirst()
                                     .map( ITerm::<String>raw )
                                     .map( EType::of )
                                     .orElse( EType.DENSE );
 
-        CCommon.flatten( p_argument )
-               .filter( i -> CCommon.isssignableto( i, DoubleMatrix2D.class ) )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( i -> IntStream.range( 0, i.columns() ).boxed().map( i::viewColumn ).mapToDouble( DoubleMatrix1D::zSum ).toArray() )
-               .map( i -> generate( i, l_type ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .filter( i -> CCommon.isssignableto( i, DoubleMatrix2D.class ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( i -> IntStream.range( 0, i.columns() ).boxed().map( i::viewColumn ).mapToDouble( DoubleMatrix1D::zSum ).toArray() )
+                     .map( i -> generate( i, l_type ) )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
@@ -116,6 +118,8 @@ public final class CColumnSum extends IBaseAlgebra
         switch ( p_type )
         {
             case SPARSE:
+            case SPARSE_ROW:
+            case SPARSE_COLUMN:
                 return new SparseDoubleMatrix1D( p_value );
             default:
                 return new DenseDoubleMatrix1D( p_value );
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -35,6 +36,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -80,11 +82,13 @@ public final class CCondition extends IBaseAlgebra
     {
         // first argument must be a term with a matrix object
         // arguments are matrix objects
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( DENSEALGEBRA::cond )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( IBaseAlgebra::dense )
+                     .map( DENSEALGEBRA::cond )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
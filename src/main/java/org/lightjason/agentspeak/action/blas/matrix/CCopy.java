@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -35,6 +36,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -76,11 +78,12 @@ public final class CCopy extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( DoubleMatrix2D::copy )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( DoubleMatrix2D::copy )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
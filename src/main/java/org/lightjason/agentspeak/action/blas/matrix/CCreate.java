@@ -24,9 +24,13 @@
 package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+import cern.colt.matrix.tfloat.impl.DenseFloatMatrix2D;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.COffHeapDoubleMatrix2D;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
@@ -46,10 +50,12 @@ import java.util.stream.Stream;
 /**
  * creates a dense- or sparse-matrix.
  * The action creates densore or sparse matrix objects, the
- * last object is a string with dense or sparse, all other
+ * last object is a string with dense, sparse, sparse_row (compressed row),
+ * sparse_column (compressed column), offheap (dense storage outside
+ * of the heap) or float (dense storage with single precision), all other
  * arguments are tuples of row and column size.
  *
- * {@code [M1|M2] = .math/blas/matrix/create(2,2, [3,2], "dense|sparse");}
+ * {@code [M1|M2] = .math/blas/matrix/create(2,2, [3,2], "dense|sparse|sparse_row|sparse_column|offheap|float");}
  */
 public final class CCreate extends IBaseAction
 {
@@ -133,6 +139,70 @@ public final class CCreate extends IBaseAction
                 return Stream.empty();
 
 
+            case SPARSE_ROW:
+                StreamUtils.windowed(
+                    l_arguments.stream()
+                               .limit( l_limit )
+                               .map( ITerm::<Number>raw )
+                               .mapToInt( Number::intValue )
+                               .boxed(),
+                    2
+                )
+                           .map( i -> new SparseRCDoubleMatrix2D( i.get( 0 ), i.get( 1 ) ) )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+
+            case SPARSE_COLUMN:
+                StreamUtils.windowed(
+                    l_arguments.stream()
+                               .limit( l_limit )
+                               .map( ITerm::<Number>raw )
+                               .mapToInt( Number::intValue )
+                               .boxed(),
+                    2
+                )
+                           .map( i -> new SparseCCDoubleMatrix2D( i.get( 0 ), i.get( 1 ) ) )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+
+            case OFFHEAP:
+                StreamUtils.windowed(
+                    l_arguments.stream()
+                               .limit( l_limit )
+                               .map( ITerm::<Number>raw )
+                               .mapToInt( Number::intValue )
+                               .boxed(),
+                    2
+                )
+                           .map( i -> new COffHeapDoubleMatrix2D( i.get( 0 ), i.get( 1 ) ) )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+
+            case FLOAT:
+                StreamUtils.windowed(
+                    l_arguments.stream()
+                               .limit( l_limit )
+                               .map( ITerm::<Number>raw )
+                               .mapToInt( Number::intValue )
+                               .boxed(),
+                    2
+                )
+                           .map( i -> new DenseFloatMatrix2D( i.get( 0 ), i.get( 1 ) ) )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+
             default:
                 throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument" ) );
         }
@@ -23,12 +23,21 @@
 
 package org.lightjason.agentspeak.action.blas.matrix;
 
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.matrix.AbstractMatrix2D;
 import cern.colt.matrix.tdouble.DoubleFactory2D;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatFactory2D;
+import org.lightjason.agentspeak.action.blas.CConvert;
+import org.lightjason.agentspeak.action.blas.CParallel;
+import org.lightjason.agentspeak.action.blas.COffHeapDoubleMatrix2D;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -38,6 +47,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -46,11 +58,12 @@ import java.util.stream.Stream;
  * The action returns for each vector element a
  * matrix which contains the vetcor elements on
  * the diagonal line. A string value indicates
- * a sparse or dense matrix (default sparse)
+ * a sparse, sparse_row, sparse_column, dense, offheap or float matrix (default sparse)
  *
  * {@code
  * [D1|D2] = .math/blas/matrix/diagonal( Vector1, Vector2 );
  * [D3|D4] = .math/blas/matrix/diagonal( Vector1, Vector2, "dense" );
+ * [D5|D6] = .math/blas/matrix/diagonal( Vector1, Vector2, "sparse_column" );
  * }
  */
 public final class CDiagonal extends IBaseAlgebra
@@ -85,19 +98,19 @@ public final class CDiagonal extends IBaseAlgebra
     )
     {
         final EType l_type = CCommon.flatten( p_argument )
-                                    .parallel()
                                     .filter( i -> CCommon.isssignableto( i, String.class ) )
                                     .findFirst()
                                     .map( ITerm::<String>raw )
                                     .map( EType::of )
                                     .orElse( EType.SPARSE );
 
-        CCommon.flatten( p_argument )
-               .filter( i -> CCommon.isssignableto( i, DoubleMatrix1D.class ) )
-               .map( ITerm::<DoubleMatrix1D>raw )
-               .map( i -> generate( i, l_type ) )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .filter( i -> CCommon.isssignableto( i, DoubleMatrix1D.class ) )
+                     .map( ITerm::<DoubleMatrix1D>raw )
+                     .map( i -> this.generate( p_context, i, l_type ) )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
 
         return Stream.empty();
@@ -106,19 +119,58 @@ public final class CDiagonal extends IBaseAlgebra
     /**
      * generates the diagonal matrix
      *
+     * @param p_context execution context
      * @param p_elements vector with diagonal elements
      * @param p_type type of the matrix
      * @return identity
      */
     @Nonnull
-    private static DoubleMatrix2D generate( @Nonnull final DoubleMatrix1D p_elements, @Nonnull final EType p_type )
+    private AbstractMatrix2D generate( @Nonnull final IContext p_context, @Nonnull final DoubleMatrix1D p_elements, @Nonnull final EType p_type )
     {
         switch ( p_type )
         {
             case DENSE:
                 return DoubleFactory2D.dense.diagonal( p_elements );
-            default:
+            case OFFHEAP:
+            {
+                final DoubleMatrix2D l_matrix = new COffHeapDoubleMatrix2D( (int) p_elements.size(), (int) p_elements.size() );
+                IntStream.range( 0, (int) p_elements.size() ).forEach( i -> l_matrix.setQuick( i, i, p_elements.getQuick( i ) ) );
+                return l_matrix;
+            }
+            case SPARSE_ROW:
+                return compressed( p_elements ).getRowCompressed();
+            case SPARSE_COLUMN:
+                return compressed( p_elements );
+            case FLOAT:
+                return FloatFactory2D.dense.diagonal( CConvert.tofloat( p_elements ) );
+            case SPARSE:
                 return DoubleFactory2D.sparse.diagonal( p_elements );
+            default:
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", p_type.name().toLowerCase( Locale.ROOT ) )
+                );
         }
     }
+
+    /**
+     * generates the diagonal matrix in compressed column
+     * storage with the nonzero elements only
+     *
+     * @param p_elements vector with diagonal elements
+     * @return diagonal matrix
+     */
+    @Nonnull
+    private static SparseCCDoubleMatrix2D compressed( @Nonnull final DoubleMatrix1D p_elements )
+    {
+        final IntArrayList l_index = new IntArrayList();
+        final DoubleArrayList l_value = new DoubleArrayList();
+        p_elements.getNonZeros( l_index, l_value );
+        l_index.trimToSize();
+        l_value.trimToSize();
+
+        return new SparseCCDoubleMatrix2D(
+            (int) p_elements.size(), (int) p_elements.size(), l_index.elements(), l_index.elements(), l_value.elements(), false, false, true
+        );
+    }
 }
@@ -26,6 +26,8 @@ package org.lightjason.agentspeak.action.blas.matrix;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.algo.decomposition.DenseDoubleEigenvalueDecomposition;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
+import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -36,6 +38,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -80,14 +83,16 @@ public final class CEigen extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( DenseDoubleEigenvalueDecomposition::new )
-               .forEach( i ->
-               {
-                   p_return.add( CRawTerm.of( i.getRealEigenvalues() ) );
-                   p_return.add( CRawTerm.of( i.getV() ) );
-               } );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( IBaseAlgebra::dense )
+                     .map( DenseDoubleEigenvalueDecomposition::new )
+        ).forEach( i ->
+        {
+            p_return.add( CRawTerm.of( i.getRealEigenvalues() ) );
+            p_return.add( CRawTerm.of( i.getV() ) );
+        } );
 
         return Stream.empty();
     }
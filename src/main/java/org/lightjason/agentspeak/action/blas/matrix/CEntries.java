@@ -0,0 +1,94 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * returns the nonzero entries of a matrix.
+ * For each input matrix the action returns the nonzero entries, which
+ * can be iterated within a lambda expression, each entry is a list of
+ * row, column and value, sparse matrices are traversed by their nonzero
+ * elements only, so large sparse matrices e.g. graph adjacency matrices
+ * can be iterated
+ *
+ * {@code
+ * [E1|E2] = .math/blas/matrix/entries( M1, M2 );
+ * (E1) -> Edge : ...
+ * }
+ */
+public final class CEntries extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -2406616405936622826L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CEntries.class, "math", "blas", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        // arguments are matrix objects
+        CCommon.flatten( p_argument )
+               .map( ITerm::<DoubleMatrix2D>raw )
+               .map( CNonZeroEntries::new )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+}
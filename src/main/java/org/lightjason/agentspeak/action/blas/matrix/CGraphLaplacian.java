@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.action.blas.matrix;
 import cern.colt.matrix.tdouble.DoubleFactory2D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -37,6 +38,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -81,15 +83,16 @@ public final class CGraphLaplacian extends IBaseAlgebra
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( i -> DoubleFactory2D
-                   .sparse
-                   .diagonal( new DenseDoubleMatrix1D( IntStream.range( 0, i.rows() ).mapToDouble( j -> i.viewRow( j ).cardinality() ).toArray() ) )
-                   .assign( i, ( n, m ) -> n - m )
-               )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( i -> DoubleFactory2D
+                         .sparse
+                         .diagonal( new DenseDoubleMatrix1D( IntStream.range( 0, i.rows() ).mapToDouble( j -> i.viewRow( j ).cardinality() ).toArray() ) )
+                         .assign( i, ( n, m ) -> n - m )
+                     )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
@@ -23,11 +23,17 @@
 
 package org.lightjason.agentspeak.action.blas.matrix;
 
+import cern.colt.matrix.AbstractMatrix2D;
 import cern.colt.matrix.tdouble.DoubleFactory2D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatFactory2D;
+import org.lightjason.agentspeak.action.blas.COffHeapDoubleMatrix2D;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -37,6 +43,8 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -45,11 +53,12 @@ import java.util.stream.Stream;
  * The action returns the identity matrix multiple
  * times, the arguments defines the size of each
  * matrix, a string defines the resulting matrix
- * type dense or space (default sparse)
+ * type dense, sparse, sparse_row, sparse_column, offheap or float (default sparse)
  *
  * {@code
  * [E1|E2] = .math/blas/matrix/identity( 2, 3 );
  * [E3|E4] = .math/blas/matrix/identity( 2, 3, "dense" );
+ * [E5|E6] = .math/blas/matrix/identity( 2, 3, "sparse_row" );
  * }
  */
 public final class CIdentity extends IBaseAlgebra
@@ -84,7 +93,6 @@ public final class CIdentity extends IBaseAlgebra
     )
     {
         final EType l_type = CCommon.flatten( p_argument )
-                                    .parallel()
                                     .filter( i -> CCommon.isssignableto( i, String.class ) )
                                     .findFirst()
                                     .map( ITerm::<String>raw )
@@ -95,7 +103,7 @@ public final class CIdentity extends IBaseAlgebra
                .filter( i -> CCommon.isssignableto( i, Number.class ) )
                .map( ITerm::<Number>raw )
                .map( Number::intValue )
-               .map( i -> generate( i, l_type ) )
+               .map( i -> this.generate( p_context, i, l_type ) )
                .map( CRawTerm::of )
                .forEach( p_return::add );
 
@@ -106,19 +114,41 @@ public final class CIdentity extends IBaseAlgebra
     /**
      * generates the identitiy matrix
      *
+     * @param p_context execution context
      * @param p_size size of the matrix
      * @param p_type type of the matrix
      * @return identity
      */
     @Nonnull
-    private static DoubleMatrix2D generate( final int p_size, @Nonnull final EType p_type )
+    private AbstractMatrix2D generate( @Nonnull final IContext p_context, final int p_size, @Nonnull final EType p_type )
     {
         switch ( p_type )
         {
             case DENSE:
                 return DoubleFactory2D.dense.identity( p_size );
-            default:
+            case OFFHEAP:
+            {
+                final DoubleMatrix2D l_matrix = new COffHeapDoubleMatrix2D( p_size, p_size );
+                IntStream.range( 0, p_size ).forEach( i -> l_matrix.setQuick( i, i, 1 ) );
+                return l_matrix;
+            }
+            case SPARSE_ROW:
+                return new SparseRCDoubleMatrix2D(
+                    p_size, p_size, IntStream.range( 0, p_size ).toArray(), IntStream.range( 0, p_size ).toArray(), 1, false, false
+                );
+            case SPARSE_COLUMN:
+                return new SparseCCDoubleMatrix2D(
+                    p_size, p_size, IntStream.range( 0, p_size ).toArray(), IntStream.range( 0, p_size ).toArray(), 1, false, false
+                );
+            case FLOAT:
+                return FloatFactory2D.dense.identity( p_size );
+            case SPARSE:
                 return DoubleFactory2D.sparse.identity( p_size );
+            default:
+                throw new CExecutionIllegealArgumentException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", p_type.name().toLowerCase( Locale.ROOT ) )
+                );
         }
     }
 }
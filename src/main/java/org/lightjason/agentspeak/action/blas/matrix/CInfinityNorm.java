@@ -24,6 +24,8 @@
 package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatMatrix2D;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -35,6 +37,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -79,11 +82,13 @@ public final class CInfinityNorm extends IBaseAlgebra
     )
     {
         // arguments are matrix objects
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( DENSEALGEBRA::normInfinity )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( i -> CCommon.isssignableto( i, FloatMatrix2D.class )
+                                ? (double) FLOATALGEBRA.normInfinity( i.<FloatMatrix2D>raw() )
+                                : DENSEALGEBRA.normInfinity( i.<DoubleMatrix2D>raw() ) )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
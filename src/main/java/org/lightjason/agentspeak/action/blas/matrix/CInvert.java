@@ -24,6 +24,8 @@
 package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CDecompositionCache;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -35,13 +37,15 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * inverts the matrix.
  * Inverts each input matrix and returns
- * it
+ * it, symmetric positive-definite matrices
+ * are inverted with a cholesky decomposition
  *
  * {@code [I1|I2] = .math/blas/matrix/invert(M1,M2);}
  *
@@ -79,11 +83,12 @@ public final class CInvert extends IBaseAlgebra
     )
     {
         // arguments are matrix objects
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( DENSEALGEBRA::inverse )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( CDecompositionCache::inverse )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
@@ -0,0 +1,344 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.algo.solver.AbstractDoubleIterativeSolver;
+import cern.colt.matrix.tdouble.algo.solver.DefaultDoubleIterationMonitor;
+import cern.colt.matrix.tdouble.algo.solver.DoubleBiCGstab;
+import cern.colt.matrix.tdouble.algo.solver.DoubleCG;
+import cern.colt.matrix.tdouble.algo.solver.DoubleGMRES;
+import cern.colt.matrix.tdouble.algo.solver.DoubleNotConvergedException;
+import cern.colt.matrix.tdouble.algo.solver.IterativeSolverDoubleNotConvergedException;
+import cern.colt.matrix.tdouble.algo.solver.preconditioner.DoubleDiagonal;
+import cern.colt.matrix.tdouble.algo.solver.preconditioner.DoubleILU;
+import cern.colt.matrix.tdouble.algo.solver.preconditioner.DoubleIdentity;
+import cern.colt.matrix.tdouble.algo.solver.preconditioner.DoublePreconditioner;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CParallel;
+import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * iterative solver of sparse linear equations.
+ * The action solves the equation \f$ A \cdot x = b \f$ with a
+ * krylov subspace method, the first argument is the method
+ * "cg" (conjugate gradient), "bicgstab" or "gmres", the optional second argument the preconditioner
+ * "none", "jacobi" or "ilu" (incomplete LU decomposition without fill-in),
+ * followed by the maximum number of iterations and the relative tolerance
+ * of the residual, all other arguments are tuples of a matrix \f$ A \f$ and
+ * a vector \f$ b \f$, optionally followed by an initial vector \f$ x_0 \f$,
+ * arguments which do not form complete tuples fail the action.
+ * Sparse matrices are not densified, the action returns for each tuple the
+ * vector \f$ x \f$, the number of iterations, the residual norm and a boolean
+ * convergence flag, on reaching the iteration limit the current approximation
+ * is returned with a false flag, a breakdown or divergence of the method fails
+ * the action.
+ * The conjugate gradient method requires a symmetric positive-definite matrix,
+ * the matrix is not checked and on other matrices the method can return a wrong
+ * approximation, so "bicgstab" or "gmres" should be used for general matrices
+ *
+ * {@code
+ * [X|I|R|C] = .math/blas/matrix/iterativesolve( "cg", 1000, 0.000001, A, b );
+ * [X1|I1|R1|C1|X2|I2|R2|C2] = .math/blas/matrix/iterativesolve( "gmres", "ilu", 1000, 0.000001, A1, b1, A2, b2, X0 );
+ * }
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Conjugate_gradient_method"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Biconjugate_gradient_stabilized_method"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Generalized_minimal_residual_method"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Incomplete_LU_factorization"></a>
+ */
+public final class CIterativeSolve extends IBaseAlgebra
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 6377218592011563402L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CIterativeSolve.class, "math", "blas", "matrix" );
+    /**
+     * absolute tolerance of the residual
+     */
+    private static final double ABSOLUTETOLERANCE = 1e-50;
+    /**
+     * divergence tolerance of the residual
+     */
+    private static final double DIVERGENCETOLERANCE = 1e+5;
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 5;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+
+        final EMethod l_method = EMethod.of( l_arguments.get( 0 ).raw() );
+        if ( l_method == null )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", l_arguments.get( 0 ).<Object>raw() )
+            );
+
+        final boolean l_haspreconditioner = CCommon.isssignableto( l_arguments.get( 1 ), String.class );
+        final EPreconditioner l_preconditioner = l_haspreconditioner ? EPreconditioner.of( l_arguments.get( 1 ).raw() ) : EPreconditioner.NONE;
+        if ( l_preconditioner == null )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", l_arguments.get( 1 ).<Object>raw() )
+            );
+
+        int l_index = l_haspreconditioner ? 2 : 1;
+        final int l_iterations = l_arguments.get( l_index++ ).<Number>raw().intValue();
+        final double l_tolerance = l_arguments.get( l_index++ ).<Number>raw().doubleValue();
+
+        // create systems, a right-hand-side can be followed by an initial vector
+        final List<ITerm[]> l_systems = new ArrayList<>();
+        while ( l_index + 1 < l_arguments.size()
+                && CCommon.isssignableto( l_arguments.get( l_index ), DoubleMatrix2D.class )
+                && CCommon.isssignableto( l_arguments.get( l_index + 1 ), DoubleMatrix1D.class ) )
+        {
+            final ITerm[] l_system = new ITerm[]{l_arguments.get( l_index++ ), l_arguments.get( l_index++ ), null};
+            if ( l_index < l_arguments.size() && CCommon.isssignableto( l_arguments.get( l_index ), DoubleMatrix1D.class ) )
+                l_system[2] = l_arguments.get( l_index++ );
+            l_systems.add( l_system );
+        }
+
+        if ( l_systems.isEmpty() || l_index < l_arguments.size() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "systemerror" )
+            );
+
+        CParallel.collect(
+            CParallel.stream( p_parallel, l_systems, CParallel.workload( l_arguments ) )
+                     .map( i -> this.solve(
+                         p_context, l_method, l_preconditioner, l_iterations, l_tolerance,
+                         i[0].raw(), i[1].raw(), i[2] == null ? null : i[2].raw()
+                     ) )
+        ).stream()
+         .flatMap( Arrays::stream )
+         .map( CRawTerm::of )
+         .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * solves a single system
+     *
+     * @param p_context execution context
+     * @param p_method krylov method
+     * @param p_preconditioner preconditioner
+     * @param p_iterations maximum number of iterations
+     * @param p_tolerance relative tolerance
+     * @param p_matrix matrix
+     * @param p_rhs right-hand-side
+     * @param p_initial initial vector or null
+     * @return solution, number of iterations, residual and convergence flag
+     */
+    @Nonnull
+    private Object[] solve( @Nonnull final IContext p_context, @Nonnull final EMethod p_method, @Nonnull final EPreconditioner p_preconditioner,
+                            @Nonnegative final int p_iterations, final double p_tolerance,
+                            @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DoubleMatrix1D p_rhs, @Nullable final DoubleMatrix1D p_initial
+    )
+    {
+        final DoubleMatrix2D l_matrix = CIterativeSolve.storage( p_matrix );
+        final DoubleMatrix1D l_result = p_initial == null ? new DenseDoubleMatrix1D( l_matrix.columns() ) : p_initial.copy();
+        final DefaultDoubleIterationMonitor l_monitor = new DefaultDoubleIterationMonitor( p_iterations, p_tolerance, ABSOLUTETOLERANCE, DIVERGENCETOLERANCE );
+
+        final AbstractDoubleIterativeSolver l_solver = p_method.apply( new DenseDoubleMatrix1D( l_matrix.rows() ) );
+        l_solver.setIterationMonitor( l_monitor );
+        l_solver.setPreconditioner( p_preconditioner.apply( l_matrix ) );
+
+        boolean l_converged = true;
+        try
+        {
+            l_solver.solve( l_matrix, p_rhs, l_result );
+        }
+        catch ( final IterativeSolverDoubleNotConvergedException l_exception )
+        {
+            if ( l_exception.getReason() != DoubleNotConvergedException.Reason.Iterations )
+                throw new CExecutionIllegalStateException(
+                    p_context,
+                    org.lightjason.agentspeak.common.CCommon.languagestring( this, "notconverged", l_exception.getReason(), l_exception.getIterations() )
+                );
+
+            l_converged = false;
+        }
+
+        return new Object[]{l_result, (double) l_monitor.iterations(), l_monitor.residual(), l_converged};
+    }
+
+    /**
+     * returns the storage for the iteration, a hash-based
+     * sparse matrix is compressed row-wise, so the matrix-vector
+     * products and the preconditioner run on compressed rows
+     *
+     * @param p_matrix matrix
+     * @return matrix for the iteration
+     */
+    @Nonnull
+    private static DoubleMatrix2D storage( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        return p_matrix instanceof SparseDoubleMatrix2D && !p_matrix.isView()
+               ? ( (SparseDoubleMatrix2D) p_matrix ).getRowCompressed( true )
+               : p_matrix;
+    }
+
+
+    /**
+     * krylov methods
+     */
+    private enum EMethod implements Function<DoubleMatrix1D, AbstractDoubleIterativeSolver>
+    {
+        CG( DoubleCG::new ),
+        BICGSTAB( DoubleBiCGstab::new ),
+        GMRES( DoubleGMRES::new );
+
+        /**
+         * solver factory with a template vector
+         */
+        private final Function<DoubleMatrix1D, AbstractDoubleIterativeSolver> m_factory;
+
+        /**
+         * ctor
+         *
+         * @param p_factory solver factory
+         */
+        EMethod( @Nonnull final Function<DoubleMatrix1D, AbstractDoubleIterativeSolver> p_factory )
+        {
+            m_factory = p_factory;
+        }
+
+        @Override
+        public AbstractDoubleIterativeSolver apply( @Nonnull final DoubleMatrix1D p_template )
+        {
+            return m_factory.apply( p_template );
+        }
+
+        /**
+         * additional factory
+         *
+         * @param p_name name as string
+         * @return enum or null
+         */
+        @Nullable
+        static EMethod of( @Nonnull final Object p_name )
+        {
+            return Arrays.stream( EMethod.values() )
+                         .filter( i -> i.name().equals( p_name.toString().trim().toUpperCase( Locale.ROOT ) ) )
+                         .findFirst()
+                         .orElse( null );
+        }
+    }
+
+
+    /**
+     * preconditioner
+     */
+    private enum EPreconditioner implements Function<DoubleMatrix2D, DoublePreconditioner>
+    {
+        NONE( i -> new DoubleIdentity() ),
+        JACOBI( DoubleDiagonal::new ),
+        ILU( DoubleILU::new );
+
+        /**
+         * preconditioner factory with the number of rows
+         */
+        private final IntFunction<DoublePreconditioner> m_factory;
+
+        /**
+         * ctor
+         *
+         * @param p_factory preconditioner factory
+         */
+        EPreconditioner( @Nonnull final IntFunction<DoublePreconditioner> p_factory )
+        {
+            m_factory = p_factory;
+        }
+
+        @Override
+        public DoublePreconditioner apply( @Nonnull final DoubleMatrix2D p_matrix )
+        {
+            final DoublePreconditioner l_preconditioner = m_factory.apply( p_matrix.rows() );
+            l_preconditioner.setMatrix( p_matrix );
+            return l_preconditioner;
+        }
+
+        /**
+         * additional factory
+         *
+         * @param p_name name as string
+         * @return enum or null
+         */
+        @Nullable
+        static EPreconditioner of( @Nonnull final Object p_name )
+        {
+            return Arrays.stream( EPreconditioner.values() )
+                         .filter( i -> i.name().equals( p_name.toString().trim().toUpperCase( Locale.ROOT ) ) )
+                         .findFirst()
+                         .orElse( null );
+        }
+    }
+
+}
@@ -27,13 +27,19 @@ import cern.colt.matrix.AbstractMatrix2D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
+import org.lightjason.agentspeak.action.blas.CSparseAlgebra;
 
 import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 
 /**
- * streaming a blas matrix
+ * streaming a blas matrix.
+ * The elements are streamed column-major like the vectorized
+ * matrix and are read on demand, so the matrix is not copied,
+ * dense matrices are read row-wise in small blocks of columns
  */
 public final class CLambdaStreaming extends IBaseLambdaStreaming<DoubleMatrix2D>
 {
@@ -41,11 +47,44 @@ public final class CLambdaStreaming extends IBaseLambdaStreaming<DoubleMatrix2D>
      * serial id
      */
     private static final long serialVersionUID = 4021047814924138636L;
+    /**
+     * number of columns of a dense block
+     */
+    private static final int BLOCK = 8;
 
     @Override
     public Stream<?> apply( final DoubleMatrix2D p_matrix )
     {
-        return Arrays.stream( p_matrix.vectorize().toArray() ).boxed();
+        if ( CSparseAlgebra.issparse( p_matrix ) )
+        {
+            final long l_rows = p_matrix.rows();
+            return LongStream.range( 0, p_matrix.size() )
+                             .mapToObj( i -> p_matrix.getQuick( (int) ( i % l_rows ), (int) ( i / l_rows ) ) );
+        }
+
+        return IntStream.range( 0, ( p_matrix.columns() + BLOCK - 1 ) / BLOCK )
+                        .boxed()
+                        .flatMap( i -> CLambdaStreaming.block( p_matrix, i * BLOCK, Math.min( BLOCK, p_matrix.columns() - i * BLOCK ) ) );
+    }
+
+    /**
+     * streams a block of columns of a dense matrix, the block
+     * is read row-wise to follow the storage of the matrix
+     *
+     * @param p_matrix matrix
+     * @param p_column first column
+     * @param p_width number of columns
+     * @return column-major stream of the block
+     */
+    private static Stream<Double> block( final DoubleMatrix2D p_matrix, final int p_column, final int p_width )
+    {
+        final int l_rows = p_matrix.rows();
+        final double[] l_block = new double[l_rows * p_width];
+        for ( int i = 0; i < l_rows; i++ )
+            for ( int j = 0; j < p_width; j++ )
+                l_block[j * l_rows + i] = p_matrix.getQuick( i, p_column + j );
+
+        return Arrays.stream( l_block ).boxed();
     }
 
     @NonNull
@@ -0,0 +1,123 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Stream;
+
+
+/**
+ * loads matrices of binary files.
+ * The action reads for each file name argument a matrix, which
+ * is stored by the save action, a dense matrix is returned as
+ * dense matrix, a sparse matrix in compressed row storage, the
+ * file is read with memory-mapped buffers without any parsing
+ *
+ * {@code [A|B] = .math/blas/matrix/load( "a.bin", "b.bin" );}
+ */
+public final class CLoad extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2305617205123016083L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CLoad.class, "math", "blas", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        CCommon.flatten( p_argument )
+               .map( ITerm::<String>raw )
+               .map( i -> this.load( i, p_context ) )
+               .map( CRawTerm::of )
+               .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * loads a matrix
+     *
+     * @param p_file file name
+     * @param p_context execution context
+     * @return matrix
+     */
+    @Nonnull
+    private DoubleMatrix2D load( @Nonnull final String p_file, @Nonnull final IContext p_context )
+    {
+        final DoubleMatrix2D l_matrix;
+        try
+        {
+            l_matrix = CBinaryFormat.read( Paths.get( p_file ) );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CExecutionException( p_context, l_exception );
+        }
+
+        if ( l_matrix == null )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "formaterror", p_file )
+            );
+
+        return l_matrix;
+    }
+
+}
@@ -0,0 +1,367 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CNumberTokenizer;
+import org.lightjason.agentspeak.action.blas.EType;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+
+/**
+ * matrix market format.
+ * Files are read and written line by line, the reader supports real, integer
+ * and pattern values of the coordinate and array format with general, symmetric
+ * and skew-symmetric structure, the values are written directly into the storage
+ * of the matrix, compressed storages are build of the nonzero triplets, duplicate
+ * coordinate entries are summed for all storage types, sparse matrices are written
+ * in coordinate format, all other matrices in array format
+ *
+ * @see <a href="https://math.nist.gov/MatrixMarket/formats.html"></a>
+ */
+final class CMarketFormat
+{
+    /**
+     * header banner
+     */
+    private static final String BANNER = "%%MatrixMarket";
+
+    /**
+     * ctor
+     */
+    private CMarketFormat()
+    {
+    }
+
+    /**
+     * reads a matrix
+     *
+     * @param p_path file
+     * @param p_type storage type or null for the default storage of the file
+     * @return matrix or null if the file is not a supported matrix market file
+     * @throws IOException on reading error
+     */
+    @Nullable
+    static DoubleMatrix2D read( @Nonnull final Path p_path, @Nullable final EType p_type ) throws IOException
+    {
+        try ( BufferedReader l_reader = Files.newBufferedReader( p_path, StandardCharsets.US_ASCII ) )
+        {
+            // banner: %%MatrixMarket matrix <format> <field> <symmetry>
+            final String l_banner = l_reader.readLine();
+            if ( l_banner == null )
+                return null;
+
+            final String[] l_header = l_banner.trim().toLowerCase( Locale.ROOT ).split( "\\s+" );
+            if ( l_header.length != 5 || !BANNER.toLowerCase( Locale.ROOT ).equals( l_header[0] ) || !"matrix".equals( l_header[1] ) )
+                return null;
+
+            final boolean l_coordinate = "coordinate".equals( l_header[2] );
+            final boolean l_pattern = "pattern".equals( l_header[3] );
+            final double l_mirror = "general".equals( l_header[4] ) ? 0 : "symmetric".equals( l_header[4] ) ? 1 : "skew-symmetric".equals( l_header[4] ) ? -1 : Double.NaN;
+            if ( !l_coordinate && !"array".equals( l_header[2] )
+                 || !l_pattern && !"real".equals( l_header[3] ) && !"integer".equals( l_header[3] )
+                 || l_pattern && !l_coordinate
+                 || Double.isNaN( l_mirror ) )
+                return null;
+
+            // size line behind the comments
+            String l_line = l_reader.readLine();
+            while ( l_line != null && ( l_line.startsWith( "%" ) || l_line.trim().isEmpty() ) )
+                l_line = l_reader.readLine();
+            if ( l_line == null )
+                return null;
+
+            // sizes are computed in long, so an oversized header is rejected instead of overflowing
+            final CNumberTokenizer l_size = new CNumberTokenizer( l_line, false );
+            final long l_rowsize = CMarketFormat.whole( l_size );
+            final long l_columnsize = CMarketFormat.whole( l_size );
+            if ( l_rowsize < 0 || l_columnsize < 0 || l_rowsize > Integer.MAX_VALUE || l_columnsize > Integer.MAX_VALUE )
+                return null;
+
+            final long l_entrysize = l_coordinate
+                                     ? CMarketFormat.whole( l_size )
+                                     : l_mirror == 0 ? l_rowsize * l_columnsize
+                                     : l_mirror > 0 ? l_rowsize * ( l_rowsize + 1 ) / 2 : l_rowsize * ( l_rowsize - 1 ) / 2;
+            final EType l_type = p_type == null ? l_coordinate ? EType.SPARSE : EType.DENSE : p_type;
+            if ( l_size.hasnumber() || l_entrysize < 0 || l_entrysize > Integer.MAX_VALUE
+                 || l_type == EType.DENSE && l_rowsize * l_columnsize > Integer.MAX_VALUE
+                 || l_mirror != 0 && l_rowsize != l_columnsize )
+                return null;
+
+            final int l_rows = (int) l_rowsize;
+            final int l_columns = (int) l_columnsize;
+            final int l_entries = (int) l_entrysize;
+            final CStorage l_storage = new CStorage( l_type, l_rows, l_columns, l_mirror == 0 ? l_entrysize : 2 * l_entrysize );
+
+            // entries, the array format lists the values column-wise, symmetric
+            // matrices list the lower triangle, skew-symmetric without the diagonal
+            int l_row = l_mirror < 0 ? 1 : 0;
+            int l_column = 0;
+            for ( int i = 0; i < l_entries; )
+            {
+                l_line = l_reader.readLine();
+                if ( l_line == null )
+                    return null;
+                if ( l_line.startsWith( "%" ) )
+                    continue;
+
+                final CNumberTokenizer l_tokenizer = new CNumberTokenizer( l_line, false );
+                while ( l_tokenizer.hasnumber() && i < l_entries )
+                {
+                    // a coordinate line contains exactly the one-based indices and the value if it is not a pattern
+                    if ( l_coordinate )
+                    {
+                        l_row = (int) Math.min( CMarketFormat.whole( l_tokenizer ) - 1, Integer.MAX_VALUE );
+                        l_column = (int) Math.min( CMarketFormat.whole( l_tokenizer ) - 1, Integer.MAX_VALUE );
+                        if ( !l_pattern && !l_tokenizer.hasnumber() )
+                            return null;
+                    }
+
+                    final double l_value = l_pattern ? 1 : l_tokenizer.number();
+                    if ( l_row < 0 || l_row >= l_rows || l_column < 0 || l_column >= l_columns || l_coordinate && l_tokenizer.hasnumber() )
+                        return null;
+
+                    l_storage.set( l_row, l_column, l_value );
+                    if ( l_mirror != 0 && l_row != l_column )
+                        l_storage.set( l_column, l_row, l_mirror * l_value );
+                    i++;
+
+                    if ( l_coordinate )
+                        break;
+
+                    if ( ++l_row == l_rows )
+                    {
+                        l_column++;
+                        l_row = l_mirror == 0 ? 0 : l_mirror > 0 ? l_column : l_column + 1;
+                    }
+                }
+            }
+
+            return l_storage.get();
+        }
+        catch ( final NumberFormatException l_exception )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * reads a non-negative whole number
+     *
+     * @param p_tokenizer tokenizer
+     * @return number or -1 if the next token does not exist or is not a non-negative whole number
+     */
+    private static long whole( @Nonnull final CNumberTokenizer p_tokenizer )
+    {
+        if ( !p_tokenizer.hasnumber() )
+            return -1;
+
+        final double l_value = p_tokenizer.number();
+        return l_value >= 0 && l_value <= Long.MAX_VALUE && l_value == Math.rint( l_value ) ? (long) l_value : -1;
+    }
+
+    /**
+     * writes a matrix
+     *
+     * @param p_path file
+     * @param p_matrix matrix
+     * @throws IOException on writing error
+     */
+    static void write( @Nonnull final Path p_path, @Nonnull final DoubleMatrix2D p_matrix ) throws IOException
+    {
+        try ( BufferedWriter l_writer = Files.newBufferedWriter( p_path, StandardCharsets.US_ASCII ) )
+        {
+            if ( p_matrix instanceof SparseDoubleMatrix2D || p_matrix instanceof SparseRCDoubleMatrix2D || p_matrix instanceof SparseCCDoubleMatrix2D )
+            {
+                final IntArrayList l_rows = new IntArrayList();
+                final IntArrayList l_columns = new IntArrayList();
+                final DoubleArrayList l_values = new DoubleArrayList();
+                p_matrix.forEachNonZero( ( i, j, v ) ->
+                {
+                    l_rows.add( i );
+                    l_columns.add( j );
+                    l_values.add( v );
+                    return v;
+                } );
+
+                l_writer.write( BANNER + " matrix coordinate real general\n" );
+                l_writer.write( p_matrix.rows() + " " + p_matrix.columns() + " " + l_values.size() + "\n" );
+                for ( int i = 0; i < l_values.size(); i++ )
+                    l_writer.write( ( l_rows.getQuick( i ) + 1 ) + " " + ( l_columns.getQuick( i ) + 1 ) + " " + l_values.getQuick( i ) + "\n" );
+
+                return;
+            }
+
+            l_writer.write( BANNER + " matrix array real general\n" );
+            l_writer.write( p_matrix.rows() + " " + p_matrix.columns() + "\n" );
+            for ( int j = 0; j < p_matrix.columns(); j++ )
+                for ( int i = 0; i < p_matrix.rows(); i++ )
+                    l_writer.write( p_matrix.getQuick( i, j ) + "\n" );
+        }
+    }
+
+
+    /**
+     * storage of the read values
+     */
+    private static final class CStorage
+    {
+        /**
+         * maximum initial capacity, larger storages grow while reading
+         */
+        private static final int CAPACITY = 1 << 16;
+        /**
+         * storage type
+         */
+        private final EType m_type;
+        /**
+         * number of rows
+         */
+        private final int m_rows;
+        /**
+         * number of columns
+         */
+        private final int m_columns;
+        /**
+         * matrix of the direct storages
+         */
+        private final DoubleMatrix2D m_matrix;
+        /**
+         * row indices of the compressed storages
+         */
+        private final IntArrayList m_rowindex;
+        /**
+         * column indices of the compressed storages
+         */
+        private final IntArrayList m_columnindex;
+        /**
+         * values of the compressed storages
+         */
+        private final DoubleArrayList m_values;
+
+        /**
+         * ctor
+         *
+         * @param p_type storage type
+         * @param p_rows number of rows
+         * @param p_columns number of columns
+         * @param p_entries expected number of entries of the header
+         */
+        CStorage( @Nonnull final EType p_type, @Nonnegative final int p_rows, @Nonnegative final int p_columns, @Nonnegative final long p_entries )
+        {
+            m_type = p_type;
+            m_rows = p_rows;
+            m_columns = p_columns;
+
+            final int l_capacity = (int) Math.min( p_entries, CAPACITY );
+
+            switch ( p_type )
+            {
+                case DENSE:
+                    m_matrix = new DenseDoubleMatrix2D( p_rows, p_columns );
+                    break;
+
+                case SPARSE:
+                    m_matrix = new SparseDoubleMatrix2D( p_rows, p_columns, l_capacity, 0.2, 0.5 );
+                    break;
+
+                case SPARSE_ROW:
+                case SPARSE_COLUMN:
+                    m_matrix = null;
+                    break;
+
+                default:
+                    throw new IllegalArgumentException( p_type.name() );
+            }
+
+            m_rowindex = m_matrix == null ? new IntArrayList( l_capacity ) : null;
+            m_columnindex = m_matrix == null ? new IntArrayList( l_capacity ) : null;
+            m_values = m_matrix == null ? new DoubleArrayList( l_capacity ) : null;
+        }
+
+        /**
+         * adds a value, so duplicate entries are summed like
+         * the compressed storages sum duplicate triplets
+         *
+         * @param p_row row
+         * @param p_column column
+         * @param p_value value
+         */
+        void set( @Nonnegative final int p_row, @Nonnegative final int p_column, final double p_value )
+        {
+            if ( m_matrix != null )
+            {
+                m_matrix.setQuick( p_row, p_column, m_matrix.getQuick( p_row, p_column ) + p_value );
+                return;
+            }
+
+            if ( p_value == 0 )
+                return;
+
+            m_rowindex.add( p_row );
+            m_columnindex.add( p_column );
+            m_values.add( p_value );
+        }
+
+        /**
+         * returns the matrix
+         *
+         * @return matrix
+         */
+        @Nonnull
+        DoubleMatrix2D get()
+        {
+            if ( m_matrix != null )
+                return m_matrix;
+
+            if ( m_values.isEmpty() )
+                return m_type == EType.SPARSE_ROW ? new SparseRCDoubleMatrix2D( m_rows, m_columns ) : new SparseCCDoubleMatrix2D( m_rows, m_columns );
+
+            m_rowindex.trimToSize();
+            m_columnindex.trimToSize();
+            m_values.trimToSize();
+
+            return m_type == EType.SPARSE_ROW
+                   ? new SparseRCDoubleMatrix2D( m_rows, m_columns, m_rowindex.elements(), m_columnindex.elements(), m_values.elements(), true, false, true )
+                   : new SparseCCDoubleMatrix2D( m_rows, m_columns, m_rowindex.elements(), m_columnindex.elements(), m_values.elements(), true, false, true );
+        }
+    }
+
+}
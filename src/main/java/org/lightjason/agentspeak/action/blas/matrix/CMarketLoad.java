@@ -0,0 +1,148 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.EType;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.CRawTerm;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * loads matrices of matrix market files.
+ * The action reads for each file name argument a matrix of a matrix market
+ * file (.mtx) line by line, the last argument can be a string with "dense",
+ * "sparse", "sparse_row" or "sparse_column" to define the storage of the
+ * matrices, on default coordinate files are read into sparse and array
+ * files into dense matrices
+ *
+ * {@code [A|B] = .math/blas/matrix/marketload( "a.mtx", "b.mtx", "sparse_row" );}
+ *
+ * @see <a href="https://math.nist.gov/MatrixMarket/formats.html"></a>
+ */
+public final class CMarketLoad extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -1204107751887532009L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CMarketLoad.class, "math", "blas", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 1;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final int l_limit;
+        final EType l_type;
+        if ( l_arguments.size() > 1 && EType.exists( l_arguments.get( l_arguments.size() - 1 ).raw() ) )
+        {
+            l_type = EType.of( l_arguments.get( l_arguments.size() - 1 ).raw() );
+            l_limit = l_arguments.size() - 1;
+        }
+        else
+        {
+            l_type = null;
+            l_limit = l_arguments.size();
+        }
+
+        if ( l_type != null && l_type != EType.DENSE && l_type != EType.SPARSE && l_type != EType.SPARSE_ROW && l_type != EType.SPARSE_COLUMN )
+            throw new CExecutionIllegealArgumentException( p_context, org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", l_type ) );
+
+        l_arguments.stream()
+                   .limit( l_limit )
+                   .map( ITerm::<String>raw )
+                   .map( i -> this.load( i, l_type, p_context ) )
+                   .map( CRawTerm::of )
+                   .forEach( p_return::add );
+
+        return Stream.empty();
+    }
+
+    /**
+     * loads a matrix
+     *
+     * @param p_file file name
+     * @param p_type storage type or null for the default storage
+     * @param p_context execution context
+     * @return matrix
+     */
+    @Nonnull
+    private DoubleMatrix2D load( @Nonnull final String p_file, @Nullable final EType p_type, @Nonnull final IContext p_context )
+    {
+        final DoubleMatrix2D l_matrix;
+        try
+        {
+            l_matrix = CMarketFormat.read( Paths.get( p_file ), p_type );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CExecutionException( p_context, l_exception );
+        }
+
+        if ( l_matrix == null )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "formaterror", p_file )
+            );
+
+        return l_matrix;
+    }
+
+}
@@ -0,0 +1,178 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tlong.LongArrayList;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CSparseAlgebra;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+
+/**
+ * nonzero entries of a matrix.
+ * The entries are streamed as triples of row, column and value,
+ * sparse storages are traversed by their nonzero elements only,
+ * so the zero cells of a matrix are never visited
+ */
+public final class CNonZeroEntries
+{
+    /**
+     * matrix
+     */
+    private final DoubleMatrix2D m_matrix;
+
+    /**
+     * ctor
+     *
+     * @param p_matrix matrix
+     */
+    public CNonZeroEntries( @Nonnull final DoubleMatrix2D p_matrix )
+    {
+        m_matrix = p_matrix;
+    }
+
+    /**
+     * returns the matrix
+     *
+     * @return matrix
+     */
+    @Nonnull
+    public DoubleMatrix2D matrix()
+    {
+        return m_matrix;
+    }
+
+    /**
+     * stream of the nonzero entries, compressed column storages
+     * are streamed column-wise, all other storages row-wise
+     *
+     * @return stream of row, column and value triples
+     */
+    @Nonnull
+    public Stream<List<Double>> stream()
+    {
+        if ( CSparseAlgebra.issparse( m_matrix ) && m_matrix instanceof SparseRCDoubleMatrix2D )
+            return CNonZeroEntries.compressedrow( (SparseRCDoubleMatrix2D) m_matrix );
+
+        if ( CSparseAlgebra.issparse( m_matrix ) && m_matrix instanceof SparseCCDoubleMatrix2D )
+            return CNonZeroEntries.compressedcolumn( (SparseCCDoubleMatrix2D) m_matrix );
+
+        if ( CSparseAlgebra.issparse( m_matrix ) && m_matrix instanceof SparseDoubleMatrix2D )
+            return CNonZeroEntries.hashed( (SparseDoubleMatrix2D) m_matrix );
+
+        return IntStream.range( 0, m_matrix.rows() )
+                        .boxed()
+                        .flatMap( i -> IntStream.range( 0, m_matrix.columns() )
+                                                .filter( j -> m_matrix.getQuick( i, j ) != 0 )
+                                                .mapToObj( j -> CNonZeroEntries.entry( i, j, m_matrix.getQuick( i, j ) ) ) );
+    }
+
+    /**
+     * streams the entries of a compressed row storage
+     *
+     * @param p_matrix matrix
+     * @return entry stream
+     */
+    @Nonnull
+    private static Stream<List<Double>> compressedrow( @Nonnull final SparseRCDoubleMatrix2D p_matrix )
+    {
+        final int[] l_pointer = p_matrix.getRowPointers();
+        final int[] l_index = p_matrix.getColumnIndexes();
+        final double[] l_values = p_matrix.getValues();
+
+        return IntStream.range( 0, p_matrix.rows() )
+                        .boxed()
+                        .flatMap( i -> IntStream.range( l_pointer[i], l_pointer[i + 1] )
+                                                .filter( k -> l_values[k] != 0 )
+                                                .mapToObj( k -> CNonZeroEntries.entry( i, l_index[k], l_values[k] ) ) );
+    }
+
+    /**
+     * streams the entries of a compressed column storage
+     *
+     * @param p_matrix matrix
+     * @return entry stream
+     */
+    @Nonnull
+    private static Stream<List<Double>> compressedcolumn( @Nonnull final SparseCCDoubleMatrix2D p_matrix )
+    {
+        final int[] l_pointer = p_matrix.getColumnPointers();
+        final int[] l_index = p_matrix.getRowIndexes();
+        final double[] l_values = p_matrix.getValues();
+
+        return IntStream.range( 0, p_matrix.columns() )
+                        .boxed()
+                        .flatMap( j -> IntStream.range( l_pointer[j], l_pointer[j + 1] )
+                                                .filter( k -> l_values[k] != 0 )
+                                                .mapToObj( k -> CNonZeroEntries.entry( l_index[k], j, l_values[k] ) ) );
+    }
+
+    /**
+     * streams the entries of a hash-based storage,
+     * the keys are sorted to get a row-wise order
+     *
+     * @param p_matrix matrix
+     * @return entry stream
+     */
+    @Nonnull
+    private static Stream<List<Double>> hashed( @Nonnull final SparseDoubleMatrix2D p_matrix )
+    {
+        final LongArrayList l_keys = new LongArrayList();
+        final DoubleArrayList l_values = new DoubleArrayList();
+        p_matrix.elements().pairsSortedByKey( l_keys, l_values );
+
+        final long l_columns = p_matrix.columns();
+        return IntStream.range( 0, l_keys.size() )
+                        .filter( k -> l_values.getQuick( k ) != 0 )
+                        .mapToObj( k -> CNonZeroEntries.entry(
+                            (int) ( l_keys.getQuick( k ) / l_columns ),
+                            (int) ( l_keys.getQuick( k ) % l_columns ),
+                            l_values.getQuick( k )
+                        ) );
+    }
+
+    /**
+     * creates an entry
+     *
+     * @param p_row row index
+     * @param p_column column index
+     * @param p_value value
+     * @return triple of row, column and value
+     */
+    @Nonnull
+    private static List<Double> entry( final int p_row, final int p_column, final double p_value )
+    {
+        return Arrays.asList( (double) p_row, (double) p_column, p_value );
+    }
+
+}
@@ -0,0 +1,55 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
+
+import java.util.stream.Stream;
+
+
+/**
+ * streaming the nonzero entries of a matrix.
+ * Each element is a list of row, column and value
+ */
+public final class CNonZeroLambdaStreaming extends IBaseLambdaStreaming<CNonZeroEntries>
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = 2752165394613358405L;
+
+    @Override
+    public Stream<?> apply( final CNonZeroEntries p_entries )
+    {
+        return p_entries.stream();
+    }
+
+    @NonNull
+    @Override
+    public Stream<Class<?>> assignable()
+    {
+        return Stream.of( CNonZeroEntries.class );
+    }
+}
@@ -23,9 +23,11 @@
 
 package org.lightjason.agentspeak.action.blas.matrix;
 
-import cern.colt.matrix.tdouble.DoubleFactory2D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
-import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CParallel;
+import org.lightjason.agentspeak.action.blas.CSparseAlgebra;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -36,7 +38,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -44,9 +48,17 @@ import java.util.stream.Stream;
 /**
  * creates the normalized graph laplacian.
  * For each input adjacency matrix, the normalized graph
- * ´laplacian is calculated and returned
+ * ´laplacian is calculated and returned, the laplacian
+ * \f$ D^{-1} L \f$ is calculated by scaling each row with
+ * the reciprocal degree, if the last argument is "symmetric"
+ * the symmetric laplacian \f$ D^{-1/2} L D^{-1/2} \f$ is returned,
+ * sparse matrices result in a sparse laplacian and rows of
+ * isolated nodes are zero
  *
- * {@code [L1|L2] = .math/blas/matrix/normalizedgraphlaplacian( AdjacencyMatrix1, AdjacencyMatrix2 );}
+ * {@code
+ * [L1|L2] = .math/blas/matrix/normalizedgraphlaplacian( AdjacencyMatrix1, AdjacencyMatrix2 );
+ * [L1|L2] = .math/blas/matrix/normalizedgraphlaplacian( AdjacencyMatrix1, AdjacencyMatrix2, "symmetric" );
+ * }
  *
  * @see <a href="https://en.wikipedia.org/wiki/Laplacian_matrix"></a>
  */
@@ -60,6 +72,10 @@ public final class CNormalizedGraphLaplacian extends IBaseAlgebra
      * action name
      */
     private static final IPath NAME = namebyclass( CNormalizedGraphLaplacian.class, "math", "blas", "matrix" );
+    /**
+     * argument of the symmetric normalization
+     */
+    private static final String SYMMETRIC = "symmetric";
 
     @Nonnull
     @Override
@@ -81,19 +97,58 @@ public final class CNormalizedGraphLaplacian extends IBaseAlgebra
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( i ->
-               {
-                   final DoubleMatrix2D l_degree = DoubleFactory2D
-                       .sparse
-                       .diagonal( new DenseDoubleMatrix1D( IntStream.range( 0, i.rows() ).mapToDouble( j -> i.viewRow( j ).cardinality() ).toArray() ) );
-
-                   return DENSEALGEBRA.mult( DENSEALGEBRA.inverse( l_degree ), l_degree.assign( i, ( n, m ) -> n - m ) );
-               } )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_symmetric = CCommon.isssignableto( l_arguments.get( l_arguments.size() - 1 ), String.class )
+                                    && SYMMETRIC.equalsIgnoreCase( l_arguments.get( l_arguments.size() - 1 ).<String>raw().trim() );
+
+        CParallel.collect(
+            CParallel.stream( p_parallel, l_symmetric ? l_arguments.subList( 0, l_arguments.size() - 1 ) : l_arguments )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( i -> CNormalizedGraphLaplacian.laplacian( i, l_symmetric ) )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
+
+    /**
+     * calculates the normalized laplacian without any inversion,
+     * the degree is the number of non-zero elements of a row and
+     * each element of the laplacian \f$ L = D - A \f$ is scaled
+     * by the reciprocal degree of the row (and the column)
+     *
+     * @param p_matrix adjacency matrix
+     * @param p_symmetric symmetric normalization
+     * @return normalized laplacian
+     */
+    @Nonnull
+    private static DoubleMatrix2D laplacian( @Nonnull final DoubleMatrix2D p_matrix, final boolean p_symmetric )
+    {
+        final double[] l_degree = new double[p_matrix.rows()];
+        p_matrix.forEachNonZero( ( i, j, v ) ->
+        {
+            l_degree[i]++;
+            return v;
+        } );
+
+        final double[] l_scale = Arrays.stream( l_degree )
+                                       .map( i -> i == 0 ? 0 : p_symmetric ? 1 / Math.sqrt( i ) : 1 / i )
+                                       .toArray();
+
+        final DoubleMatrix2D l_result = CSparseAlgebra.issparse( p_matrix )
+                                        ? new SparseDoubleMatrix2D( p_matrix.rows(), p_matrix.columns() )
+                                        : new DenseDoubleMatrix2D( p_matrix.rows(), p_matrix.columns() );
+
+        p_matrix.forEachNonZero( ( i, j, v ) ->
+        {
+            if ( i != j )
+                l_result.setQuick( i, j, -v * l_scale[i] * ( p_symmetric ? l_scale[j] : 1 ) );
+            return v;
+        } );
+
+        IntStream.range( 0, Math.min( p_matrix.rows(), p_matrix.columns() ) )
+                 .forEach( i -> l_result.setQuick( i, i, ( l_degree[i] - p_matrix.getQuick( i, i ) ) * l_scale[i] * ( p_symmetric ? l_scale[i] : 1 ) ) );
+
+        return l_result;
+    }
 }
@@ -23,12 +23,19 @@
 
 package org.lightjason.agentspeak.action.blas.matrix;
 
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CConvert;
+import org.lightjason.agentspeak.action.blas.CNumberTokenizer;
+import org.lightjason.agentspeak.action.blas.COffHeapDoubleMatrix2D;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.common.IPath;
-import org.lightjason.agentspeak.error.context.CExecutionException;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -38,23 +45,20 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
  * creates a dense- or sparse-matrix of a string.
  * The action parses each argument and returns the matrix object,
- * the last argument can be a string with "dense" or "sparse" to
- * defining a dense or sparse matrix, all other arguments string with
+ * the last argument can be a string with "dense", "sparse", "sparse_row",
+ * "sparse_column", "offheap" or "float" to defining a dense or sparse matrix, all other arguments string with
  * a semicolon and space / comma seperated list, the action never fails.
  * Semicolon splits the rows, spaces / comma splits the columns
  *
- * {@code [A|B|C] = .math/blas/matrix/parse("1,2;3,4", "5 6 7; 8 9 10", "dense|sparse" );}
+ * {@code [A|B|C] = .math/blas/matrix/parse("1,2;3,4", "5 6 7; 8 9 10", "dense|sparse|sparse_row|sparse_column|offheap|float" );}
  */
 public final class CParse extends IBaseAction
 {
@@ -103,26 +107,48 @@ public final class CParse extends IBaseAction
         }
 
 
-        // create vectors
+        // create matrices
         switch ( l_type )
         {
             case DENSE:
                 l_arguments.stream()
                            .limit( l_limit )
                            .map( ITerm::<String>raw )
-                           .map( i -> CParse.parse( i, p_context ) )
-                           .map( DenseDoubleMatrix2D::new )
+                           .map( CParse::dense )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+            case OFFHEAP:
+                l_arguments.stream()
+                           .limit( l_limit )
+                           .map( ITerm::<String>raw )
+                           .map( CParse::dense )
+                           .map( i -> new COffHeapDoubleMatrix2D( i.rows(), i.columns() ).assign( (double[]) i.elements() ) )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+            case FLOAT:
+                l_arguments.stream()
+                           .limit( l_limit )
+                           .map( ITerm::<String>raw )
+                           .map( CParse::dense )
+                           .map( CConvert::tofloat )
                            .map( CRawTerm::of )
                            .forEach( p_return::add );
 
                 return Stream.empty();
 
             case SPARSE:
+            case SPARSE_ROW:
+            case SPARSE_COLUMN:
                 l_arguments.stream()
                            .limit( l_limit )
                            .map( ITerm::<String>raw )
-                           .map( i -> CParse.parse( i, p_context ) )
-                           .map( SparseDoubleMatrix2D::new )
+                           .map( i -> CParse.sparse( i, l_type ) )
                            .map( CRawTerm::of )
                            .forEach( p_return::add );
 
@@ -134,43 +160,103 @@ public final class CParse extends IBaseAction
     }
 
     /**
-     * parse the string in a list of lists with doubles
+     * parses the string into a dense matrix, the values are written
+     * row-major into the storage of the matrix, shorter rows are filled with zero
+     *
+     * @param p_string string
+     * @return dense matrix
+     */
+    @Nonnull
+    private static DoubleMatrix2D dense( @Nonnull final String p_string )
+    {
+        final CNumberTokenizer l_tokenizer = new CNumberTokenizer( p_string, true );
+        final DoubleArrayList l_values = new DoubleArrayList();
+        final IntArrayList l_length = new IntArrayList();
+
+        int l_columns = 0;
+        do
+        {
+            final int l_start = l_values.size();
+            while ( l_tokenizer.hasnumber() )
+                l_values.add( l_tokenizer.number() );
+
+            // the first row defines the storage size of a rectangular matrix
+            if ( l_length.isEmpty() )
+                l_values.ensureCapacity( l_tokenizer.rows() * l_values.size() );
+
+            l_length.add( l_values.size() - l_start );
+            l_columns = Math.max( l_columns, l_values.size() - l_start );
+        } while ( l_tokenizer.nextrow() );
+
+        final int l_rows = l_length.size();
+        if ( l_values.size() == l_rows * l_columns )
+        {
+            l_values.trimToSize();
+            return new DenseDoubleMatrix2D( l_rows, l_columns, l_values.elements(), 0, 0, l_columns, 1, false );
+        }
+
+        final double[] l_elements = new double[l_rows * l_columns];
+        for ( int i = 0, l_offset = 0; i < l_rows; l_offset += l_length.getQuick( i ), i++ )
+            System.arraycopy( l_values.elements(), l_offset, l_elements, i * l_columns, l_length.getQuick( i ) );
+
+        return new DenseDoubleMatrix2D( l_rows, l_columns, l_elements, 0, 0, l_columns, 1, false );
+    }
+
+    /**
+     * parses the string into a sparse matrix, only the
+     * nonzero values are stored
      *
      * @param p_string string
-     * @param p_context execution context
-     * @return 2D double array
+     * @param p_type sparse matrix type
+     * @return sparse matrix
      */
     @Nonnull
-    private static double[][] parse( @Nonnull final String p_string, @Nonnull final IContext p_context )
+    private static DoubleMatrix2D sparse( @Nonnull final String p_string, @Nonnull final EType p_type )
     {
-        final String[] l_rows = p_string.split( ";" );
-        final List<List<Double>> l_matrix = new ArrayList<>();
-
-        final double[][] l_return = new double[l_rows.length][
-            Arrays.stream( l_rows )
-                  .map( i -> Arrays.stream( i.trim().split( ",|\\s" ) )
-                                   .map( String::trim )
-                                   .filter( j -> !j.isEmpty() )
-                                   .mapToDouble( Double::parseDouble )
-                                   .boxed()
-                                   .collect( Collectors.toList() )
-                  )
-                  .mapToInt( i ->
-                  {
-                      l_matrix.add( i );
-                      return i.size();
-                  } )
-                  .max()
-                  .orElseThrow( () -> new CExecutionException( p_context ) )
-            ];
-
-        IntStream.range( 0, l_return.length )
-                 .boxed()
-                 .forEach( i -> IntStream.range( 0, l_return[i].length )
-                                         .boxed()
-                                         .forEach( j -> l_return[i][j] = l_matrix.get( i ).get( j ) ) );
-
-        return l_return;
+        final CNumberTokenizer l_tokenizer = new CNumberTokenizer( p_string, true );
+        final IntArrayList l_rowindex = new IntArrayList();
+        final IntArrayList l_columnindex = new IntArrayList();
+        final DoubleArrayList l_values = new DoubleArrayList();
+
+        int l_rows = 0;
+        int l_columns = 0;
+        do
+        {
+            int l_column = 0;
+            for ( ; l_tokenizer.hasnumber(); l_column++ )
+            {
+                final double l_value = l_tokenizer.number();
+                if ( l_value == 0 )
+                    continue;
+
+                l_rowindex.add( l_rows );
+                l_columnindex.add( l_column );
+                l_values.add( l_value );
+            }
+
+            l_columns = Math.max( l_columns, l_column );
+            l_rows++;
+        } while ( l_tokenizer.nextrow() );
+
+        l_rowindex.trimToSize();
+        l_columnindex.trimToSize();
+        l_values.trimToSize();
+
+        switch ( p_type )
+        {
+            case SPARSE_ROW:
+                return l_values.isEmpty()
+                       ? new SparseRCDoubleMatrix2D( l_rows, l_columns )
+                       : new SparseRCDoubleMatrix2D( l_rows, l_columns, l_rowindex.elements(), l_columnindex.elements(), l_values.elements(), false, false, false );
+
+            case SPARSE_COLUMN:
+                return l_values.isEmpty()
+                       ? new SparseCCDoubleMatrix2D( l_rows, l_columns )
+                       : new SparseCCDoubleMatrix2D( l_rows, l_columns, l_rowindex.elements(), l_columnindex.elements(), l_values.elements(), false, false, false );
+
+            default:
+                return new SparseDoubleMatrix2D( l_rows, l_columns, l_rowindex.elements(), l_columnindex.elements(), l_values.elements() );
+        }
     }
 
 }
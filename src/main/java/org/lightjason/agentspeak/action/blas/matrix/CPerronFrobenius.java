@@ -26,9 +26,10 @@ package org.lightjason.agentspeak.action.blas.matrix;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
-import cern.jet.math.tdouble.DoubleMult;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
@@ -37,7 +38,9 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
@@ -50,11 +53,25 @@ import java.util.stream.Stream;
  * The action calculates the largest eigenvector of a sequared matrix
  * based on the perron-frobenius theorem, the calculation is \f$ E_{t+1} = M \cdot E_t \f$,
  * the action uses on the first argument the number of iterations and all other argumentes
- * are squared matrices, the returning arguments are the eigenvector for each matrix
+ * are squared matrices, the returning arguments are the eigenvector for each matrix.
+ * If the second argument is a number, it is used as tolerance, the iteration stops if
+ * the maximum change of the normalized eigenvector is lower than the tolerance, the first
+ * argument defines the maximum number of iterations and the action returns for each matrix
+ * the eigenvector, the number of used iterations and the eigenvalue (rayleigh quotient).
+ * The string "seed" followed by a number sets the seed of the random initial vectors
+ * in both modes without changing the returning arguments, a vector behind a matrix
+ * is used as initial vector of this matrix, so a previous eigenvector can be passed back
  *
- * {@code [E1|E2|E3] = .math/blas/matrix/perronfrobenius(5, M1, M2, M3);}
+ * {@code
+ * [E1|E2|E3] = .math/blas/matrix/perronfrobenius(5, M1, M2, M3);
+ * [E1|E2] = .math/blas/matrix/perronfrobenius(5, "seed", 42, M1, M2);
+ * [E|I|L] = .math/blas/matrix/perronfrobenius(1000, 0.00001, M);
+ * [E|I|L] = .math/blas/matrix/perronfrobenius(1000, 0.00001, "seed", 42, M);
+ * [E|I|L] = .math/blas/matrix/perronfrobenius(1000, 0.00001, M, E);
+ * }
  *
  * @see <a href="https://en.wikipedia.org/wiki/Perron%E2%80%93Frobenius_theorem"></a>
+ * @see <a href="https://en.wikipedia.org/wiki/Power_iteration"></a>
  */
 public final class CPerronFrobenius extends IBaseAlgebra
 {
@@ -66,6 +83,10 @@ public final class CPerronFrobenius extends IBaseAlgebra
      * action name
      */
     private static final IPath NAME = namebyclass( CPerronFrobenius.class, "math", "blas", "matrix" );
+    /**
+     * marker of the seed argument
+     */
+    private static final String SEED = "seed";
 
     @Nonnull
     @Override
@@ -87,36 +108,166 @@ public final class CPerronFrobenius extends IBaseAlgebra
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        final Random l_random = ThreadLocalRandom.current();
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
 
-        // create eigenvectors
-        final List<DoubleMatrix1D> l_eigenvector = IntStream
-            .range( 0, l_arguments.size() - 1 )
-            .parallel()
-            .boxed()
-            .map( i -> new double[l_arguments.get( i + 1 ).<DoubleMatrix2D>raw().rows()] )
-            .map( DenseDoubleMatrix1D::new )
-            .peek( i -> IntStream.range( 0, Long.valueOf( i.size() ).intValue() ).forEach( j -> i.setQuick( j, l_random.nextDouble() ) ) )
-            .collect( Collectors.toList() );
-
-        // run iteration
-        IntStream.range( 0, l_arguments.get( 0 ).<Number>raw().intValue() )
-                 .forEach( i -> IntStream
-                     .range( 0, l_arguments.size() - 1 )
-                     .parallel()
-                     .boxed()
-                     .forEach( j ->
-                     {
-                         l_eigenvector.get( j ).assign( DENSEALGEBRA.mult( l_arguments.get( j + 1 ).<DoubleMatrix2D>raw(), l_eigenvector.get( j ) ) );
-                         l_eigenvector.get( j ).assign( DoubleMult.div( DENSEALGEBRA.norm2( l_eigenvector.get( j ) ) ) );
-                     } ) );
-
-        l_eigenvector.stream()
-                     .map( CRawTerm::of )
-                     .forEach( p_return::add );
+        final int l_iterations = l_arguments.get( 0 ).<Number>raw().intValue();
+        final boolean l_tolerance = CCommon.isssignableto( l_arguments.get( 1 ), Number.class );
+        final double l_epsilon = l_tolerance ? l_arguments.get( 1 ).<Number>raw().doubleValue() : 0;
+        int l_index = l_tolerance ? 2 : 1;
+
+        // optional seed, which is marked by a string, so it does not change the mode
+        final boolean l_seed = l_index < l_arguments.size() && CCommon.isssignableto( l_arguments.get( l_index ), String.class );
+        if ( l_seed && ( !SEED.equals( l_arguments.get( l_index ).<String>raw().trim().toLowerCase( Locale.ROOT ) )
+                         || l_index + 1 >= l_arguments.size() || !CCommon.isssignableto( l_arguments.get( l_index + 1 ), Number.class ) ) )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "unknownargument", l_arguments.get( l_index ).<Object>raw() )
+            );
+
+        final Random l_random = l_seed ? new Random( l_arguments.get( l_index + 1 ).<Number>raw().longValue() ) : ThreadLocalRandom.current();
+        if ( l_seed )
+            l_index += 2;
+
+        // create eigenvectors, a matrix can be followed by an initial vector
+        final List<DoubleMatrix2D> l_matrices = new ArrayList<>();
+        final List<DenseDoubleMatrix1D> l_eigenvector = new ArrayList<>();
+
+        while ( l_index < l_arguments.size() )
+        {
+            final DoubleMatrix2D l_matrix = l_arguments.get( l_index++ ).raw();
+            l_matrices.add( l_matrix );
+
+            if ( l_index < l_arguments.size() && CCommon.isssignableto( l_arguments.get( l_index ), DoubleMatrix1D.class ) )
+                l_eigenvector.add( initial( p_context, l_matrix, l_arguments.get( l_index++ ).raw() ) );
+            else
+                l_eigenvector.add( random( l_matrix, l_random ) );
+        }
+
+        // run iteration, the matrices are independent
+        final int[] l_count = new int[l_matrices.size()];
+        final double[] l_eigenvalue = new double[l_matrices.size()];
+        final boolean l_parallel = CParallel.parallel( p_parallel, l_matrices.size(), CParallel.workload( l_arguments ) );
+        CParallel.execute( l_parallel, () -> ( l_parallel ? IntStream.range( 0, l_matrices.size() ).parallel() : IntStream.range( 0, l_matrices.size() ) )
+            .forEach( i -> l_count[i] = iterate( l_matrices.get( i ), l_eigenvector.get( i ), l_iterations, l_epsilon, l_eigenvalue, i ) ) );
+
+        IntStream.range( 0, l_matrices.size() )
+                 .boxed()
+                 .flatMap( i -> l_tolerance
+                                ? Stream.of( l_eigenvector.get( i ), (double) l_count[i], l_eigenvalue[i] )
+                                : Stream.of( l_eigenvector.get( i ) ) )
+                 .map( CRawTerm::of )
+                 .forEach( p_return::add );
 
         return Stream.empty();
     }
 
+    /**
+     * creates a random initial vector
+     *
+     * @param p_matrix matrix
+     * @param p_random random generator
+     * @return initial vector
+     */
+    @Nonnull
+    private static DenseDoubleMatrix1D random( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final Random p_random )
+    {
+        final double[] l_vector = new double[p_matrix.rows()];
+        IntStream.range( 0, l_vector.length ).forEach( i -> l_vector[i] = p_random.nextDouble() );
+        return new DenseDoubleMatrix1D( l_vector );
+    }
+
+    /**
+     * creates an initial vector as copy of a given vector
+     *
+     * @param p_context execution context
+     * @param p_matrix matrix
+     * @param p_vector vector
+     * @return initial vector
+     */
+    @Nonnull
+    private DenseDoubleMatrix1D initial( @Nonnull final IContext p_context, @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DoubleMatrix1D p_vector )
+    {
+        if ( p_vector.size() != p_matrix.rows() )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "initialvectorsize", p_vector.size(), p_matrix.rows() )
+            );
+
+        return (DenseDoubleMatrix1D) new DenseDoubleMatrix1D( p_matrix.rows() ).assign( p_vector );
+    }
+
+    /**
+     * runs the power iteration, the iteration swaps two preallocated
+     * vectors, so the matrix-vector product is calculated without any
+     * allocation and uses the storage of sparse matrices
+     *
+     * @param p_matrix matrix
+     * @param p_vector initial vector, which is replaced by the normalized eigenvector
+     * @param p_iterations maximum number of iterations
+     * @param p_epsilon tolerance of the eigenvector change
+     * @param p_eigenvalue eigenvalue array
+     * @param p_index index within the eigenvalue array
+     * @return number of used iterations
+     */
+    private static int iterate( @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final DenseDoubleMatrix1D p_vector, @Nonnegative final int p_iterations,
+                                final double p_epsilon, @Nonnull final double[] p_eigenvalue, @Nonnegative final int p_index )
+    {
+        DenseDoubleMatrix1D l_current = p_vector;
+        DenseDoubleMatrix1D l_next = new DenseDoubleMatrix1D( (int) p_vector.size() );
+        normalize( l_current.elements(), Math.sqrt( l_current.zDotProduct( l_current ) ) );
+
+        int l_iteration = 0;
+        while ( l_iteration < p_iterations )
+        {
+            p_matrix.zMult( l_current, l_next );
+            p_eigenvalue[p_index] = l_current.zDotProduct( l_next );
+
+            final double l_change = normalize( l_next.elements(), l_current.elements(), Math.sqrt( l_next.zDotProduct( l_next ) ) );
+
+            final DenseDoubleMatrix1D l_swap = l_current;
+            l_current = l_next;
+            l_next = l_swap;
+            l_iteration++;
+
+            if ( l_change < p_epsilon )
+                break;
+        }
+
+        if ( l_current != p_vector )
+            System.arraycopy( l_current.elements(), 0, p_vector.elements(), 0, p_vector.elements().length );
+
+        return l_iteration;
+    }
+
+    /**
+     * normalizes a vector in-place
+     *
+     * @param p_vector vector elements
+     * @param p_norm norm
+     */
+    private static void normalize( @Nonnull final double[] p_vector, final double p_norm )
+    {
+        for ( int i = 0; i < p_vector.length; i++ )
+            p_vector[i] /= p_norm;
+    }
+
+    /**
+     * normalizes a vector in-place and calculates the maximum change to the previous vector
+     *
+     * @param p_vector vector elements
+     * @param p_previous previous vector elements
+     * @param p_norm norm
+     * @return maximum absolute change
+     */
+    private static double normalize( @Nonnull final double[] p_vector, @Nonnull final double[] p_previous, final double p_norm )
+    {
+        double l_change = 0;
+        for ( int i = 0; i < p_vector.length; i++ )
+        {
+            p_vector[i] /= p_norm;
+            l_change = Math.max( l_change, Math.abs( p_vector[i] - p_previous[i] ) );
+        }
+        return l_change;
+    }
+
 }
@@ -24,6 +24,7 @@
 package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -83,12 +84,12 @@ public final class CPower extends IBaseAlgebra
     {
         final List<ITerm> l_argument = CCommon.flatten( p_argument ).collect( Collectors.toList() );
 
-        l_argument.stream()
-                  .skip( 1 )
-                  .map( ITerm::<DoubleMatrix2D>raw )
-                  .map( i -> DENSEALGEBRA.pow( i, l_argument.get( 0 ).<Number>raw().intValue() ) )
-                  .map( CRawTerm::of )
-                  .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream( p_parallel, l_argument.subList( 1, l_argument.size() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( i -> DENSEALGEBRA.pow( i, l_argument.get( 0 ).<Number>raw().intValue() ) )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
@@ -0,0 +1,130 @@
+/*
+ * @cond LICENSE
+ * ######################################################################################
+ * # LGPL License                                                                       #
+ * #                                                                                    #
+ * # This file is part of the LightJason                                                #
+ * # Copyright (c) 2015-19, LightJason (info@lightjason.org)                            #
+ * # This program is free software: you can redistribute it and/or modify               #
+ * # it under the terms of the GNU Lesser General Public License as                     #
+ * # published by the Free Software Foundation, either version 3 of the                 #
+ * # License, or (at your option) any later version.                                    #
+ * #                                                                                    #
+ * # This program is distributed in the hope that it will be useful,                    #
+ * # but WITHOUT ANY WARRANTY; without even the implied warranty of                     #
+ * # MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the                      #
+ * # GNU Lesser General Public License for more details.                                #
+ * #                                                                                    #
+ * # You should have received a copy of the GNU Lesser General Public License           #
+ * # along with this program. If not, see http://www.gnu.org/licenses/                  #
+ * ######################################################################################
+ * @endcond
+ */
+
+package org.lightjason.agentspeak.action.blas.matrix;
+
+import cern.colt.matrix.tdouble.DoubleMatrix2D;
+import com.codepoetics.protonpack.StreamUtils;
+import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.common.IPath;
+import org.lightjason.agentspeak.error.context.CExecutionException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.language.CCommon;
+import org.lightjason.agentspeak.language.ITerm;
+import org.lightjason.agentspeak.language.execution.IContext;
+import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
+
+import javax.annotation.Nonnegative;
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+
+/**
+ * saves matrices into binary files.
+ * The action writes each tuple of file name and matrix
+ * into a binary file, sparse matrices are stored in compressed
+ * row storage, all other matrices dense, the file is written
+ * with memory-mapped buffers and can be read by the load action
+ *
+ * {@code .math/blas/matrix/save( "a.bin", A, "b.bin", B );}
+ */
+public final class CSave extends IBaseAction
+{
+    /**
+     * serial id
+     */
+    private static final long serialVersionUID = -839935104348753211L;
+    /**
+     * action name
+     */
+    private static final IPath NAME = namebyclass( CSave.class, "math", "blas", "matrix" );
+
+    @Nonnull
+    @Override
+    public IPath name()
+    {
+        return NAME;
+    }
+
+    @Nonnegative
+    @Override
+    public int minimalArgumentNumber()
+    {
+        return 2;
+    }
+
+    @Nonnull
+    @Override
+    public Stream<IFuzzyValue<?>> execute( final boolean p_parallel, @Nonnull final IContext p_context,
+                                           @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
+    )
+    {
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        if ( l_arguments.size() % 2 == 1 )
+            throw new CExecutionIllegealArgumentException(
+                p_context,
+                org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentsnoteven" )
+            );
+
+        final List<List<ITerm>> l_tuples = StreamUtils.windowed( l_arguments.stream(), 2, 2 ).collect( Collectors.toList() );
+        l_tuples.stream()
+                .map( i -> i.get( 1 ) )
+                .filter( i -> !CCommon.isssignableto( i, DoubleMatrix2D.class ) )
+                .findFirst()
+                .ifPresent( i ->
+                {
+                    throw new CExecutionIllegealArgumentException(
+                        p_context,
+                        org.lightjason.agentspeak.common.CCommon.languagestring( this, "typeerror", i.<Object>raw().getClass().getSimpleName() )
+                    );
+                } );
+
+        l_tuples.forEach( i -> CSave.save( i.get( 0 ).raw(), i.get( 1 ).raw(), p_context ) );
+
+        return Stream.empty();
+    }
+
+    /**
+     * saves a matrix
+     *
+     * @param p_file file name
+     * @param p_matrix matrix
+     * @param p_context execution context
+     */
+    private static void save( @Nonnull final String p_file, @Nonnull final DoubleMatrix2D p_matrix, @Nonnull final IContext p_context )
+    {
+        try
+        {
+            CBinaryFormat.write( Paths.get( p_file ), p_matrix );
+        }
+        catch ( final IOException l_exception )
+        {
+            throw new CExecutionException( p_context, l_exception );
+        }
+    }
+
+}
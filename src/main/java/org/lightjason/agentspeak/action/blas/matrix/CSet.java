@@ -82,7 +82,6 @@ public final class CSet extends IBaseAction
 
         l_arguments.stream()
                    .skip( 3 )
-                   .parallel()
                    .map( ITerm::<DoubleMatrix2D>raw )
                    .forEach( i -> i.setQuick(
                        l_arguments.get( 0 ).<Number>raw().intValue(),
@@ -27,6 +27,8 @@ import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.algo.decomposition.DenseDoubleSingularValueDecomposition;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
+import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -37,6 +39,7 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
 import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
@@ -81,15 +84,17 @@ public final class CSingularValue extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( i -> new DenseDoubleSingularValueDecomposition( i, true, false ) )
-               .forEach( i ->
-               {
-                   p_return.add( CRawTerm.of( new DenseDoubleMatrix1D( i.getSingularValues() ) ) );
-                   p_return.add( CRawTerm.of( i.getU() ) );
-                   p_return.add( CRawTerm.of( i.getV() ) );
-               } );
+        CParallel.collect(
+            CParallel.stream( p_parallel, CCommon.flatten( p_argument ).collect( Collectors.toList() ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( IBaseAlgebra::dense )
+                     .map( i -> new DenseDoubleSingularValueDecomposition( i, true, false ) )
+        ).forEach( i ->
+        {
+            p_return.add( CRawTerm.of( new DenseDoubleMatrix1D( i.getSingularValues() ) ) );
+            p_return.add( CRawTerm.of( i.getU() ) );
+            p_return.add( CRawTerm.of( i.getV() ) );
+        } );
 
         return Stream.empty();
     }
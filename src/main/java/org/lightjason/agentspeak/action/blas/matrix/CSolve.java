@@ -27,6 +27,7 @@ import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
 import com.codepoetics.protonpack.StreamUtils;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.action.blas.IBaseAlgebra;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
@@ -37,7 +38,13 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -46,7 +53,12 @@ import java.util.stream.Stream;
  * The action solve the equation \f$ A \cdot X = B \f$
  * for each input tuple, \f$ A \f$ is the first matrix argument
  * within the tuple and \f$ B \f$ the second, which can be a
- * matrix or vector, for each tuple the action returns \f$ X \f$
+ * matrix or vector, for each tuple the action returns \f$ X \f$,
+ * the decomposition of \f$ A \f$ is cached and uses a cholesky decomposition
+ * for symmetric positive-definite matrices, so solving against an
+ * unchanged matrix with a new right-hand-side runs only the substitution,
+ * tuples with the same matrix are stacked into a block of right-hand-sides
+ * and solved with a single decomposition
  *
  * {@code [R1|R2] = .math/blas/matrix( Matrix1, Matrix2, [Matrix3, Vector1] );}
  */
@@ -81,17 +93,72 @@ public final class CSolve extends IBaseAlgebra
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        StreamUtils.windowed(
-            CCommon.flatten( p_argument ),
-            2
-        )
-                   .map( i -> DENSEALGEBRA.solve( i.get( 0 ).<DoubleMatrix2D>raw(), CSolve.result( i.get( 1 ) ) ) )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final List<List<ITerm>> l_tuples = StreamUtils.windowed( l_arguments.stream(), 2, 2 ).collect( Collectors.toList() );
+
+        // tuples with the same matrix are grouped, so each matrix is solved once
+        final Map<DoubleMatrix2D, List<Integer>> l_groups = new IdentityHashMap<>();
+        final List<List<Integer>> l_batches = new ArrayList<>();
+        IntStream.range( 0, l_tuples.size() )
+                 .forEach( i -> l_groups.computeIfAbsent( l_tuples.get( i ).get( 0 ).<DoubleMatrix2D>raw(), j ->
+                 {
+                     final List<Integer> l_batch = new ArrayList<>();
+                     l_batches.add( l_batch );
+                     return l_batch;
+                 } ).add( i ) );
+
+        final DoubleMatrix2D[] l_result = new DoubleMatrix2D[l_tuples.size()];
+        final long l_workload = CParallel.workload( l_arguments );
+        final boolean l_parallel = CParallel.parallel( p_parallel, l_batches.size(), l_workload );
+        CParallel.execute( l_parallel, () -> CParallel.stream( l_parallel, l_batches, l_workload )
+                                                      .forEach( i -> CSolve.batch( l_tuples, i, l_result ) ) );
+
+        Arrays.stream( l_result )
+              .map( CRawTerm::of )
+              .forEach( p_return::add );
 
         return Stream.empty();
     }
 
+    /**
+     * solves all tuples of one matrix, the right-hand-sides
+     * are stacked into a single block, which is solved with
+     * one decomposition, and the solution is split into the
+     * results of the tuples
+     *
+     * @param p_tuples tuples
+     * @param p_batch indices of tuples with the same matrix
+     * @param p_result result array
+     */
+    private static void batch( @Nonnull final List<List<ITerm>> p_tuples, @Nonnull final List<Integer> p_batch, @Nonnull final DoubleMatrix2D[] p_result )
+    {
+        final DoubleMatrix2D l_matrix = p_tuples.get( p_batch.get( 0 ) ).get( 0 ).raw();
+        if ( p_batch.size() == 1 )
+        {
+            p_result[p_batch.get( 0 )] = DECOMPOSITION.solve( l_matrix, CSolve.result( p_tuples.get( p_batch.get( 0 ) ).get( 1 ) ) );
+            return;
+        }
+
+        final List<DoubleMatrix2D> l_rhs = p_batch.stream().map( i -> CSolve.result( p_tuples.get( i ).get( 1 ) ) ).collect( Collectors.toList() );
+        final DoubleMatrix2D l_block = new DenseDoubleMatrix2D( l_rhs.get( 0 ).rows(), l_rhs.stream().mapToInt( DoubleMatrix2D::columns ).sum() );
+
+        int l_column = 0;
+        for ( final DoubleMatrix2D i : l_rhs )
+        {
+            l_block.viewPart( 0, l_column, i.rows(), i.columns() ).assign( i );
+            l_column += i.columns();
+        }
+
+        final DoubleMatrix2D l_solution = DECOMPOSITION.solve( l_matrix, l_block );
+
+        l_column = 0;
+        for ( int i = 0; i < p_batch.size(); i++ )
+        {
+            p_result[p_batch.get( i )] = l_solution.viewPart( 0, l_column, l_solution.rows(), l_rhs.get( i ).columns() ).copy();
+            l_column += l_rhs.get( i ).columns();
+        }
+    }
+
     /**
      * creates a matrix of the input term
      *
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.blas.matrix;
 
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -34,18 +35,24 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * converts a matrix rowise to a list.
- * The action creates lists of each input matrix
+ * The action creates lists of each input matrix, each list is
+ * a read-only view of the matrix, so the elements are not copied
+ * and changes of the matrix are visible within the list, with the
+ * last argument "snapshot" the lists are modifiable copies
  *
- * {@code [L1|L2|L3] = .math/blas/matrix/tolist( Matrix1, [Matrix2, Matrix3] );}
+ * {@code [L1|L2|L3] = .math/blas/matrix/tolist( Matrix1, [Matrix2, Matrix3], "snapshot" );}
  */
 public final class CToList extends IBaseAction
 {
@@ -57,6 +64,10 @@ public final class CToList extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CToList.class, "math", "blas", "matrix" );
+    /**
+     * argument of the snapshot mode
+     */
+    private static final String SNAPSHOT = "snapshot";
 
     @Nonnull
     @Override
@@ -78,13 +89,65 @@ public final class CToList extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix2D>raw )
-               .map( i -> Arrays.stream( i.toArray() ).flatMap( j -> Arrays.stream( j ).boxed() ).collect( Collectors.toList() ) )
-               .map( i -> p_parallel ? Collections.synchronizedList( i ) : i )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_snapshot = CCommon.isssignableto( l_arguments.get( l_arguments.size() - 1 ), String.class )
+                                   && SNAPSHOT.equalsIgnoreCase( l_arguments.get( l_arguments.size() - 1 ).<String>raw().trim() );
+
+        if ( !l_snapshot )
+        {
+            l_arguments.stream()
+                       .map( ITerm::<DoubleMatrix2D>raw )
+                       .map( CView::new )
+                       .map( CRawTerm::of )
+                       .forEach( p_return::add );
+
+            return Stream.empty();
+        }
+
+        CParallel.collect(
+            CParallel.stream( p_parallel, l_arguments.subList( 0, l_arguments.size() - 1 ) )
+                     .map( ITerm::<DoubleMatrix2D>raw )
+                     .map( i -> Arrays.stream( i.toArray() ).flatMap( j -> Arrays.stream( j ).boxed() ).collect( Collectors.toList() ) )
+                     .map( i -> p_parallel ? Collections.synchronizedList( i ) : i )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
+
+    /**
+     * read-only row-wise list view of a matrix
+     */
+    private static final class CView extends AbstractList<Double> implements RandomAccess
+    {
+        /**
+         * matrix
+         */
+        private final DoubleMatrix2D m_matrix;
+
+        /**
+         * ctor
+         *
+         * @param p_matrix matrix
+         */
+        CView( @Nonnull final DoubleMatrix2D p_matrix )
+        {
+            m_matrix = p_matrix;
+        }
+
+        @Override
+        public Double get( final int p_index )
+        {
+            if ( p_index < 0 || p_index >= this.size() )
+                throw new IndexOutOfBoundsException( MessageFormat.format( "index [{0}] is not within [0, {1})", p_index, this.size() ) );
+
+            return m_matrix.getQuick( p_index / m_matrix.columns(), p_index % m_matrix.columns() );
+        }
+
+        @Override
+        public int size()
+        {
+            return m_matrix.rows() * m_matrix.columns();
+        }
+    }
 }
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.blas.vector;
 
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -83,27 +84,25 @@ public final class CAssign extends IBaseAction
         final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
 
 
-        if ( !l_arguments.stream()
-                       .skip( 1 )
-                       .parallel()
-                       .allMatch( i ->
-                       {
+        if ( !CParallel.allMatch( CParallel.stream( p_parallel, l_arguments.subList( 1, l_arguments.size() ) ),
+                                  i ->
+                                  {
 
-                           if ( CCommon.isssignableto( l_arguments.get( 0 ), Number.class ) )
-                           {
-                               i.<DoubleMatrix1D>raw().assign( l_arguments.get( 0 ).<Number>raw().doubleValue() );
-                               return true;
-                           }
+                                      if ( CCommon.isssignableto( l_arguments.get( 0 ), Number.class ) )
+                                      {
+                                          i.<DoubleMatrix1D>raw().assign( l_arguments.get( 0 ).<Number>raw().doubleValue() );
+                                          return true;
+                                      }
 
-                           if ( CCommon.isssignableto( l_arguments.get( 0 ), DoubleMatrix1D.class ) )
-                           {
-                               i.<DoubleMatrix1D>raw().assign( l_arguments.get( 0 ).<DoubleMatrix1D>raw() );
-                               return true;
-                           }
+                                      if ( CCommon.isssignableto( l_arguments.get( 0 ), DoubleMatrix1D.class ) )
+                                      {
+                                          i.<DoubleMatrix1D>raw().assign( l_arguments.get( 0 ).<DoubleMatrix1D>raw() );
+                                          return true;
+                                      }
 
-                           return false;
+                                      return false;
 
-                       } ) )
+                                  } ) )
             throw new CExecutionIllegealArgumentException(
                 p_context,
                 org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumenterror" )
@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.blas.vector;
 
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
+import cern.colt.matrix.tfloat.impl.DenseFloatMatrix1D;
 import org.lightjason.agentspeak.action.IBaseAction;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.common.IPath;
@@ -46,9 +47,9 @@ import java.util.stream.Stream;
  * creates a dense- or sparse-vector.
  * The action creates a vector, the first \f$ n-1 \f$ arguments are
  * the size of the vector, the last argument defines as string a
- * dense or sparse vector (default is dense)
+ * dense, sparse or float (dense with single precision) vector (default is dense)
  *
- * {@code [A|B|C] = math/blas/vector/create( 3, 2, 1, "dense | sparse");}
+ * {@code [A|B|C] = math/blas/vector/create( 3, 2, 1, "dense | sparse | float");}
  */
 public final class CCreate extends IBaseAction
 {
@@ -126,6 +127,19 @@ public final class CCreate extends IBaseAction
                 return Stream.empty();
 
 
+            case FLOAT:
+                l_arguments.stream()
+                           .limit( l_limit )
+                           .map( ITerm::<Number>raw )
+                           .mapToInt( Number::intValue )
+                           .boxed()
+                           .map( DenseFloatMatrix1D::new )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+
             default:
                 throw new CExecutionIllegealArgumentException(
                     p_context,
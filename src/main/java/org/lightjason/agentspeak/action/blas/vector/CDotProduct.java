@@ -26,6 +26,7 @@ package org.lightjason.agentspeak.action.blas.vector;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import com.codepoetics.protonpack.StreamUtils;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
 import org.lightjason.agentspeak.language.CCommon;
@@ -88,10 +89,15 @@ public final class CDotProduct extends IBaseAction
                 org.lightjason.agentspeak.common.CCommon.languagestring( this, "argumentsnoteven" )
             );
 
-        StreamUtils.windowed( l_arguments.stream(), 2 )
-                   .map( i -> i.get( 0 ).zDotProduct( i.get( 1 ) ) )
-                   .map( CRawTerm::of )
-                   .forEach( p_return::add );
+        CParallel.collect(
+            CParallel.stream(
+                p_parallel,
+                StreamUtils.windowed( l_arguments.stream(), 2 ).collect( Collectors.toList() ),
+                l_arguments.stream().mapToLong( DoubleMatrix1D::size ).sum()
+            )
+                     .map( i -> i.get( 0 ).zDotProduct( i.get( 1 ) ) )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
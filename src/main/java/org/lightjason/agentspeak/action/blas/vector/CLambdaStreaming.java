@@ -28,7 +28,7 @@ import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import org.lightjason.agentspeak.action.IBaseLambdaStreaming;
 
-import java.util.Arrays;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
@@ -45,7 +45,8 @@ public final class CLambdaStreaming extends IBaseLambdaStreaming<DoubleMatrix1D>
     @Override
     public Stream<?> apply( final DoubleMatrix1D p_vector )
     {
-        return Arrays.stream( p_vector.toArray() ).boxed();
+        return IntStream.range( 0, (int) p_vector.size() )
+                        .mapToObj( p_vector::getQuick );
     }
 
     @NonNull
@@ -23,9 +23,14 @@
 
 package org.lightjason.agentspeak.action.blas.vector;
 
+import cern.colt.list.tdouble.DoubleArrayList;
+import cern.colt.list.tint.IntArrayList;
+import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CConvert;
+import org.lightjason.agentspeak.action.blas.CNumberTokenizer;
 import org.lightjason.agentspeak.action.blas.EType;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
@@ -37,20 +42,20 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
-import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 
 /**
  * creates a dense- or sparse-vector of as string.
  * The action creates for each input argument a vector
- * by parsing the string, the last string can be "dense | sparse"
- * to defining a sparse / dense vector, the action never fails.
+ * by parsing the string, the last string can be "dense | sparse | float"
+ * to defining a sparse / dense / single precision vector, the action never fails.
  * Seperator is comma, semicolon or space
  *
- * {@code [V1|V2] = .math/blas/vector/parse( "1,2,3", "7,8,9,10,12", "dense|sparse" );}
+ * {@code [V1|V2] = .math/blas/vector/parse( "1,2,3", "7,8,9,10,12", "dense|sparse|float" );}
  */
 public final class CParse extends IBaseAction
 {
@@ -106,8 +111,7 @@ public final class CParse extends IBaseAction
                 l_arguments.stream()
                            .limit( l_limit )
                            .map( ITerm::<String>raw )
-                           .map( CParse::parse )
-                           .map( DenseDoubleMatrix1D::new )
+                           .map( CParse::dense )
                            .map( CRawTerm::of )
                            .forEach( p_return::add );
 
@@ -117,8 +121,18 @@ public final class CParse extends IBaseAction
                 l_arguments.stream()
                            .limit( l_limit )
                            .map( ITerm::<String>raw )
-                           .map( CParse::parse )
-                           .map( SparseDoubleMatrix1D::new )
+                           .map( CParse::sparse )
+                           .map( CRawTerm::of )
+                           .forEach( p_return::add );
+
+                return Stream.empty();
+
+            case FLOAT:
+                l_arguments.stream()
+                           .limit( l_limit )
+                           .map( ITerm::<String>raw )
+                           .map( CParse::dense )
+                           .map( CConvert::tofloat )
                            .map( CRawTerm::of )
                            .forEach( p_return::add );
 
@@ -133,19 +147,53 @@ public final class CParse extends IBaseAction
     }
 
     /**
-     * parses the string
+     * parses the string into a dense vector, the
+     * parsed values are used as storage of the vector
      *
      * @param p_string string
-     * @return double array
+     * @return dense vector
      */
     @Nonnull
-    private static double[] parse( @Nonnull final String p_string )
+    private static DoubleMatrix1D dense( @Nonnull final String p_string )
     {
-        return Arrays.stream( p_string.split( ";|,|\\s" ) )
-                     .map( String::trim )
-                     .filter( i -> !i.isEmpty() )
-                     .mapToDouble( Double::parseDouble )
-                     .toArray();
+        final CNumberTokenizer l_tokenizer = new CNumberTokenizer( p_string, false );
+        final DoubleArrayList l_values = new DoubleArrayList();
+
+        while ( l_tokenizer.hasnumber() )
+            l_values.add( l_tokenizer.number() );
+
+        l_values.trimToSize();
+        return new DenseDoubleMatrix1D( l_values.size(), l_values.elements(), 0, 1, false );
+    }
+
+    /**
+     * parses the string into a sparse vector,
+     * only the nonzero values are stored
+     *
+     * @param p_string string
+     * @return sparse vector
+     */
+    @Nonnull
+    private static DoubleMatrix1D sparse( @Nonnull final String p_string )
+    {
+        final CNumberTokenizer l_tokenizer = new CNumberTokenizer( p_string, false );
+        final IntArrayList l_index = new IntArrayList();
+        final DoubleArrayList l_values = new DoubleArrayList();
+
+        int l_size = 0;
+        for ( ; l_tokenizer.hasnumber(); l_size++ )
+        {
+            final double l_value = l_tokenizer.number();
+            if ( l_value == 0 )
+                continue;
+
+            l_index.add( l_size );
+            l_values.add( l_value );
+        }
+
+        final DoubleMatrix1D l_vector = new SparseDoubleMatrix1D( l_size, l_values.size(), 0.2, 0.5 );
+        IntStream.range( 0, l_values.size() ).forEach( i -> l_vector.setQuick( l_index.getQuick( i ), l_values.getQuick( i ) ) );
+        return l_vector;
     }
 
 }
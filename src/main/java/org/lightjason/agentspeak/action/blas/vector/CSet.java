@@ -81,7 +81,6 @@ public final class CSet extends IBaseAction
 
         l_arguments.stream()
                    .skip( 2 )
-                   .parallel()
                    .map( ITerm::<DoubleMatrix1D>raw )
                    .forEach( i -> i.setQuick( l_arguments.get( 0 ).<Number>raw().intValue(), l_arguments.get( 1 ).<Number>raw().doubleValue() ) );
 
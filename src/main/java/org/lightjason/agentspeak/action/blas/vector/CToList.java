@@ -25,6 +25,7 @@ package org.lightjason.agentspeak.action.blas.vector;
 
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import org.lightjason.agentspeak.action.IBaseAction;
+import org.lightjason.agentspeak.action.blas.CParallel;
 import org.lightjason.agentspeak.common.IPath;
 import org.lightjason.agentspeak.language.CCommon;
 import org.lightjason.agentspeak.language.CRawTerm;
@@ -34,19 +35,25 @@ import org.lightjason.agentspeak.language.fuzzy.IFuzzyValue;
 
 import javax.annotation.Nonnegative;
 import javax.annotation.Nonnull;
+import java.text.MessageFormat;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 
 /**
  * converts a vector to a list.
- * The action creates lists of each input vector,
+ * The action creates lists of each input vector, each list is
+ * a read-only view of the vector, so the elements are not copied
+ * and changes of the vector are visible within the list, with the
+ * last argument "snapshot" the lists are modifiable copies,
  * the action never fails
  *
- * {@code [L1|L2|L3] = .math/blas/vector/tolist( Vector1, [Vector2, Vector3] );}
+ * {@code [L1|L2|L3] = .math/blas/vector/tolist( Vector1, [Vector2, Vector3], "snapshot" );}
  */
 public final class CToList extends IBaseAction
 {
@@ -58,6 +65,10 @@ public final class CToList extends IBaseAction
      * action name
      */
     private static final IPath NAME = namebyclass( CToList.class, "math", "blas", "vector" );
+    /**
+     * argument of the snapshot mode
+     */
+    private static final String SNAPSHOT = "snapshot";
 
     @Nonnull
     @Override
@@ -79,13 +90,65 @@ public final class CToList extends IBaseAction
                                            @Nonnull final List<ITerm> p_argument, @Nonnull final List<ITerm> p_return
     )
     {
-        CCommon.flatten( p_argument )
-               .map( ITerm::<DoubleMatrix1D>raw )
-               .map( i -> Arrays.stream( i.toArray() ).boxed().collect( Collectors.toList() ) )
-               .map( i -> p_parallel ? Collections.synchronizedList( i ) : i )
-               .map( CRawTerm::of )
-               .forEach( p_return::add );
+        final List<ITerm> l_arguments = CCommon.flatten( p_argument ).collect( Collectors.toList() );
+        final boolean l_snapshot = CCommon.isssignableto( l_arguments.get( l_arguments.size() - 1 ), String.class )
+                                   && SNAPSHOT.equalsIgnoreCase( l_arguments.get( l_arguments.size() - 1 ).<String>raw().trim() );
+
+        if ( !l_snapshot )
+        {
+            l_arguments.stream()
+                       .map( ITerm::<DoubleMatrix1D>raw )
+                       .map( CView::new )
+                       .map( CRawTerm::of )
+                       .forEach( p_return::add );
+
+            return Stream.empty();
+        }
+
+        CParallel.collect(
+            CParallel.stream( p_parallel, l_arguments.subList( 0, l_arguments.size() - 1 ) )
+                     .map( ITerm::<DoubleMatrix1D>raw )
+                     .map( i -> Arrays.stream( i.toArray() ).boxed().collect( Collectors.toList() ) )
+                     .map( i -> p_parallel ? Collections.synchronizedList( i ) : i )
+                     .map( CRawTerm::of )
+        ).forEach( p_return::add );
 
         return Stream.empty();
     }
+
+    /**
+     * read-only list view of a vector
+     */
+    private static final class CView extends AbstractList<Double> implements RandomAccess
+    {
+        /**
+         * vector
+         */
+        private final DoubleMatrix1D m_vector;
+
+        /**
+         * ctor
+         *
+         * @param p_vector vector
+         */
+        CView( @Nonnull final DoubleMatrix1D p_vector )
+        {
+            m_vector = p_vector;
+        }
+
+        @Override
+        public Double get( final int p_index )
+        {
+            if ( p_index < 0 || p_index >= this.size() )
+                throw new IndexOutOfBoundsException( MessageFormat.format( "index [{0}] is not within [0, {1})", p_index, this.size() ) );
+
+            return m_vector.getQuick( p_index );
+        }
+
+        @Override
+        public int size()
+        {
+            return (int) m_vector.size();
+        }
+    }
 }
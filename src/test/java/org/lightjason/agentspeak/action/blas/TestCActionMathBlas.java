@@ -27,10 +27,16 @@ import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix1D;
+import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatMatrix1D;
+import cern.colt.matrix.tfloat.FloatMatrix2D;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.lightjason.agentspeak.action.generic.CPrint;
+import org.lightjason.agentspeak.error.context.CExecutionIllegealArgumentException;
+import org.lightjason.agentspeak.error.context.CExecutionIllegalStateException;
 import org.lightjason.agentspeak.language.CRawTerm;
 import org.lightjason.agentspeak.language.ITerm;
 import org.lightjason.agentspeak.language.execution.IContext;
@@ -45,6 +51,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -122,6 +129,165 @@ public final class TestCActionMathBlas extends IBaseTest
         Assertions.assertArrayEquals( new double[]{14.0, 11.0}, l_return.get( 3 ).<DoubleMatrix1D>raw().toArray(), 0 );
     }
 
+    /**
+     * test multiply with sparse operands
+     */
+    @Test
+    public void multiplysparse()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final DoubleMatrix2D l_sparse1 = new SparseDoubleMatrix2D( m_matrix1.toArray() );
+        final DoubleMatrix2D l_sparse2 = new SparseDoubleMatrix2D( m_matrix2.toArray() );
+        final DoubleMatrix1D l_vector = new SparseDoubleMatrix1D( m_vector.toArray() );
+
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_sparse1, l_sparse2, l_sparse1, m_matrix2, m_matrix1, l_sparse2, l_sparse1, m_vector, m_matrix1, l_vector, l_vector, m_vector )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertArrayEquals( new double[][]{{22.0, 10.0}, {30.0, 14.0}}, l_return.get( 0 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[][]{{22.0, 10.0}, {30.0, 14.0}}, l_return.get( 1 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[][]{{22.0, 10.0}, {30.0, 14.0}}, l_return.get( 2 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[]{34.0, 46.0}, l_return.get( 3 ).<DoubleMatrix1D>raw().toArray(), 0 );
+        Assertions.assertArrayEquals( new double[]{34.0, 46.0}, l_return.get( 4 ).<DoubleMatrix1D>raw().toArray(), 0 );
+        Assertions.assertArrayEquals( new double[][]{{4.0, 10.0}, {10.0, 25.0}}, l_return.get( 5 ).<DoubleMatrix2D>raw().toArray() );
+    }
+
+    /**
+     * test multiply of sparse matrices with sparse result
+     */
+    @Test
+    public void multiplysparseresult()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final DoubleMatrix2D l_matrix = new SparseDoubleMatrix2D( 100, 100 );
+        l_matrix.setQuick( 3, 7, 2 );
+        l_matrix.setQuick( 7, 5, 3 );
+
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 1, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof SparseDoubleMatrix2D );
+        Assertions.assertEquals( 1, l_return.get( 0 ).<DoubleMatrix2D>raw().cardinality() );
+        Assertions.assertEquals( 6, l_return.get( 0 ).<DoubleMatrix2D>raw().getQuick( 3, 5 ), 0 );
+    }
+
+    /**
+     * test single precision multiply, elementwise and conversion
+     */
+    @Test
+    public void singleprecision()
+    {
+        final List<ITerm> l_float = new ArrayList<>();
+        new CConvert().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( m_matrix1, m_matrix2, m_vector, "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_float
+        );
+
+        Assertions.assertEquals( 3, l_float.size() );
+        Assertions.assertTrue( l_float.get( 0 ).raw() instanceof FloatMatrix2D );
+        Assertions.assertTrue( l_float.get( 2 ).raw() instanceof FloatMatrix1D );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_float.get( 0 ), l_float.get( 1 ), l_float.get( 0 ), l_float.get( 2 ), l_float.get( 2 ), l_float.get( 2 ) ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CElementWise().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_float.get( 0 ), CRawTerm.of( "+" ), l_float.get( 1 ), l_float.get( 2 ), CRawTerm.of( "/" ), CRawTerm.of( 2 ) ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 5, l_return.size() );
+        Assertions.assertArrayEquals( new float[][]{{22, 10}, {30, 14}}, l_return.get( 0 ).<FloatMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new float[]{34, 46}, l_return.get( 1 ).<FloatMatrix1D>raw().toArray(), 0 );
+        Assertions.assertArrayEquals( new float[][]{{4, 10}, {10, 25}}, l_return.get( 2 ).<FloatMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new float[][]{{4, 8}, {6, 9}}, l_return.get( 3 ).<FloatMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new float[]{1, 2.5f}, l_return.get( 4 ).<FloatMatrix1D>raw().toArray(), 0 );
+
+        final List<ITerm> l_double = new ArrayList<>();
+        new CConvert().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 0 ), l_return.get( 1 ), CRawTerm.of( "dense" ) ).collect( Collectors.toList() ),
+            l_double
+        );
+
+        Assertions.assertArrayEquals( new double[][]{{22.0, 10.0}, {30.0, 14.0}}, l_double.get( 0 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[]{34.0, 46.0}, l_double.get( 1 ).<DoubleMatrix1D>raw().toArray(), 0 );
+
+        Assertions.assertThrows( CExecutionIllegalStateException.class,
+                                 () -> new CMultiply().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( l_float.get( 0 ), CRawTerm.of( m_matrix2 ) ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+        );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CConvert().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( m_matrix1, "sparse" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+        );
+    }
+
+    /**
+     * test parallel multiply and elementwise, which must
+     * return the same results in the same order like the
+     * sequential execution
+     */
+    @Test
+    public void parallelorder()
+    {
+        final List<Object> l_arguments = IntStream.range( 0, 8 )
+                                                  .mapToObj( i -> new DenseDoubleMatrix2D( 128, 128 ).assign( j -> i + 1 ) )
+                                                  .collect( Collectors.toList() );
+
+        final List<ITerm> l_sequential = new ArrayList<>();
+        final List<ITerm> l_parallel = new ArrayList<>();
+        new CMultiply().execute( false, IContext.EMPTYPLAN, l_arguments.stream().map( CRawTerm::of ).collect( Collectors.toList() ), l_sequential );
+        new CMultiply().execute( true, IContext.EMPTYPLAN, l_arguments.stream().map( CRawTerm::of ).collect( Collectors.toList() ), l_parallel );
+
+        Assertions.assertEquals( 4, l_parallel.size() );
+        IntStream.range( 0, l_sequential.size() )
+                 .forEach( i -> Assertions.assertEquals( l_sequential.get( i ).<DoubleMatrix2D>raw(), l_parallel.get( i ).<DoubleMatrix2D>raw() ) );
+
+        final List<ITerm> l_expression = new ArrayList<>();
+        new CExpression().execute(
+            true, IContext.EMPTYPLAN,
+            Stream.of( "A * B - 2", new DenseDoubleMatrix2D( 512, 512 ).assign( 7 ), new DenseDoubleMatrix2D( 512, 512 ).assign( 8 ) )
+                  .map( CRawTerm::of )
+                  .collect( Collectors.toList() ),
+            l_expression
+        );
+
+        Assertions.assertEquals( 54, l_expression.get( 0 ).<DoubleMatrix2D>raw().getQuick( 511, 511 ), 0 );
+        Assertions.assertEquals( 54 * 512 * 512, l_expression.get( 0 ).<DoubleMatrix2D>raw().zSum(), 0 );
+    }
+
+    /**
+     * test parallel execution on the blas pool
+     */
+    @Test
+    public void parallelpool()
+    {
+        Assertions.assertTrue( CParallel.evaluate( true, () -> Thread.currentThread().getName() ).startsWith( "lightjason-blas-" ) );
+        Assertions.assertEquals( Thread.currentThread().getName(), CParallel.evaluate( false, () -> Thread.currentThread().getName() ) );
+        Assertions.assertFalse( CParallel.parallel( false, 2, Long.MAX_VALUE ) );
+        Assertions.assertFalse( CParallel.parallel( true, 1, Long.MAX_VALUE ) );
+    }
+
     /**
      * test elementwise for matrix
      */
@@ -192,6 +358,83 @@ public final class TestCActionMathBlas extends IBaseTest
         Assertions.assertArrayEquals( new double[]{3.0, 0.0}, l_return.get( 7 ).<DoubleMatrix1D>raw().toArray(), 0 );
     }
 
+    /**
+     * test in-place elementwise
+     */
+    @Test
+    public void elementwiseinplace()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final DoubleMatrix2D l_matrix = m_matrix1.copy();
+        final DoubleMatrix1D l_vector = m_vector.copy();
+
+        new CElementWise().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                    l_matrix, "+=", m_matrix2,
+                    l_matrix, "*=", 2,
+                    l_vector, "|+|=", -5,
+                    l_vector, "-=", m_vector
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertSame( l_matrix, l_return.get( 0 ).raw() );
+        Assertions.assertSame( l_matrix, l_return.get( 1 ).raw() );
+        Assertions.assertSame( l_vector, l_return.get( 2 ).raw() );
+        Assertions.assertArrayEquals( new double[][]{{8.0, 16.0}, {12.0, 18.0}}, l_matrix.toArray() );
+        Assertions.assertArrayEquals( new double[]{1.0, -5.0}, l_vector.toArray(), 0 );
+        Assertions.assertArrayEquals( new double[][]{{2.0, 6.0}, {3.0, 8.0}}, m_matrix1.toArray() );
+    }
+
+    /**
+     * test fused expression
+     */
+    @Test
+    public void expression()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CExpression().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                    "A * 2 + B - (A - 1) ^ 2", m_matrix1, m_matrix2,
+                    "max( x, 0 ) * w + abs(x)", new DenseDoubleMatrix1D( new double[]{-3, 4} ), 0.5,
+                    "sqrt( a * b )", 2, 8
+                ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertArrayEquals( new double[][]{{5.0, -11.0}, {5.0, -32.0}}, l_return.get( 0 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[]{3.0, 6.0}, l_return.get( 1 ).<DoubleMatrix1D>raw().toArray(), 0 );
+        Assertions.assertEquals( 4.0, l_return.get( 2 ).<Number>raw().doubleValue(), 0 );
+    }
+
+    /**
+     * test fused expression errors
+     */
+    @Test
+    public void expressionerror()
+    {
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CExpression().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( "foo( A )", m_matrix1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+        );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CExpression().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( "A + B", m_matrix1, m_vector ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+        );
+    }
+
     /**
      * formatter of matrix-1d
      *
@@ -24,11 +24,16 @@
 package org.lightjason.agentspeak.action.blas;
 
 import cern.colt.matrix.AbstractMatrix2D;
+import cern.colt.matrix.tdouble.DoubleFactory2D;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseCCDoubleMatrix2D;
 import cern.colt.matrix.tdouble.impl.SparseDoubleMatrix2D;
+import cern.colt.matrix.tdouble.impl.SparseRCDoubleMatrix2D;
+import cern.colt.matrix.tfloat.FloatMatrix2D;
+import cern.colt.matrix.tfloat.impl.DenseFloatMatrix2D;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -46,14 +51,21 @@ import org.lightjason.agentspeak.action.blas.matrix.CDeterminant;
 import org.lightjason.agentspeak.action.blas.matrix.CDiagonal;
 import org.lightjason.agentspeak.action.blas.matrix.CDimension;
 import org.lightjason.agentspeak.action.blas.matrix.CEigen;
+import org.lightjason.agentspeak.action.blas.matrix.CEntries;
 import org.lightjason.agentspeak.action.blas.matrix.CGet;
 import org.lightjason.agentspeak.action.blas.matrix.CGraphLaplacian;
 import org.lightjason.agentspeak.action.blas.matrix.CIdentity;
 import org.lightjason.agentspeak.action.blas.matrix.CInfinityNorm;
 import org.lightjason.agentspeak.action.blas.matrix.CInvert;
+import org.lightjason.agentspeak.action.blas.matrix.CIterativeSolve;
 import org.lightjason.agentspeak.action.blas.matrix.CLambdaStreaming;
+import org.lightjason.agentspeak.action.blas.matrix.CLoad;
+import org.lightjason.agentspeak.action.blas.matrix.CMarketLoad;
+import org.lightjason.agentspeak.action.blas.matrix.CMarketStore;
 import org.lightjason.agentspeak.action.blas.matrix.CMatrixNorm;
 import org.lightjason.agentspeak.action.blas.matrix.CNonZero;
+import org.lightjason.agentspeak.action.blas.matrix.CNonZeroEntries;
+import org.lightjason.agentspeak.action.blas.matrix.CNonZeroLambdaStreaming;
 import org.lightjason.agentspeak.action.blas.matrix.CNormalizedGraphLaplacian;
 import org.lightjason.agentspeak.action.blas.matrix.COneNorm;
 import org.lightjason.agentspeak.action.blas.matrix.CParse;
@@ -63,6 +75,7 @@ import org.lightjason.agentspeak.action.blas.matrix.CRank;
 import org.lightjason.agentspeak.action.blas.matrix.CRow;
 import org.lightjason.agentspeak.action.blas.matrix.CRowSum;
 import org.lightjason.agentspeak.action.blas.matrix.CRows;
+import org.lightjason.agentspeak.action.blas.matrix.CSave;
 import org.lightjason.agentspeak.action.blas.matrix.CSet;
 import org.lightjason.agentspeak.action.blas.matrix.CSingularValue;
 import org.lightjason.agentspeak.action.blas.matrix.CSolve;
@@ -80,7 +93,18 @@ import org.lightjason.agentspeak.language.execution.IExecution;
 import org.lightjason.agentspeak.language.execution.lambda.ILambdaStreaming;
 import org.lightjason.agentspeak.testing.IBaseTest;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.Reference;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -323,6 +347,39 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test tolist view and snapshot
+     */
+    @Test
+    public void tolistsnapshot()
+    {
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( new double[][]{{2, 6}, {3, 8}} );
+        final List<ITerm> l_view = new ArrayList<>();
+        final List<ITerm> l_snapshot = new ArrayList<>();
+
+        new CToList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_view
+        );
+        new CToList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_matrix, "snapshot" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_snapshot
+        );
+
+        Assertions.assertEquals( 1, l_view.size() );
+        Assertions.assertEquals( 1, l_snapshot.size() );
+
+        l_matrix.setQuick( 1, 0, 5 );
+        Assertions.assertEquals( Arrays.asList( 2.0, 6.0, 5.0, 8.0 ), l_view.get( 0 ).<List<Double>>raw() );
+        Assertions.assertEquals( Arrays.asList( 2.0, 6.0, 3.0, 8.0 ), l_snapshot.get( 0 ).<List<Double>>raw() );
+
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_view.get( 0 ).<List<Double>>raw().set( 0, 1.0 ) );
+        l_snapshot.get( 0 ).<List<Double>>raw().set( 0, 1.0 );
+        Assertions.assertEquals( 1.0, l_snapshot.get( 0 ).<List<Double>>raw().get( 0 ) );
+    }
+
     /**
      * test transpose
      */
@@ -405,6 +462,300 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test solve with a batch of right-hand-sides
+     */
+    @Test
+    public void solvebatch()
+    {
+        final Random l_random = new Random( 11 );
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( 5, 5 ).assign( i -> l_random.nextDouble() );
+        final List<DoubleMatrix1D> l_vectors = IntStream.range( 0, 25 )
+                                                        .mapToObj( i -> new DenseDoubleMatrix1D( 5 ).assign( j -> l_random.nextDouble() ) )
+                                                        .collect( Collectors.toList() );
+        final DoubleMatrix2D l_block = new DenseDoubleMatrix2D( 5, 2 ).assign( i -> l_random.nextDouble() );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.concat(
+                l_vectors.stream().flatMap( i -> Stream.of( l_matrix, i ) ),
+                Stream.of( MATRIX1, new DenseDoubleMatrix1D( new double[]{2, 3} ), l_matrix, l_block )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 27, l_return.size() );
+        IntStream.range( 0, 25 ).forEach( i -> Assertions.assertArrayEquals(
+            l_vectors.get( i ).toArray(),
+            l_matrix.zMult( l_return.get( i ).<DoubleMatrix2D>raw().viewColumn( 0 ), null ).toArray(),
+            1e-8
+        ) );
+        Assertions.assertArrayEquals( new double[][]{{1.0}, {0.0}}, l_return.get( 25 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals(
+            l_block.vectorize().toArray(),
+            l_matrix.zMult( l_return.get( 26 ).<DoubleMatrix2D>raw(), null ).vectorize().toArray(),
+            1e-8
+        );
+    }
+
+    /**
+     * test solve and invert of symmetric positive-definite matrices
+     */
+    @Test
+    public void solvecholesky()
+    {
+        final DoubleMatrix2D l_dense = new DenseDoubleMatrix2D( new double[][]{{4, 1, 0}, {1, 3, 1}, {0, 1, 2}} );
+        final DoubleMatrix2D l_sparse = new SparseDoubleMatrix2D( 3, 3 ).assign( l_dense );
+        final DoubleMatrix2D l_indefinite = new DenseDoubleMatrix2D( new double[][]{{1, 2}, {2, 1}} );
+        final DoubleMatrix1D l_rhs = new DenseDoubleMatrix1D( new double[]{5, 5, 3} );
+
+        Assertions.assertTrue( CDecompositionCache.symmetric( l_dense ) );
+        Assertions.assertTrue( CDecompositionCache.symmetric( l_sparse ) );
+        Assertions.assertFalse( CDecompositionCache.symmetric( MATRIX1 ) );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_dense, l_rhs, l_sparse, l_rhs, new SparseRCDoubleMatrix2D( 3, 3 ).assign( l_dense ), l_rhs, l_indefinite, new DenseDoubleMatrix1D( new double[]{3, 3} ) )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        IntStream.range( 0, 3 ).forEach( i -> Assertions.assertArrayEquals(
+            new double[]{1, 1, 1}, l_return.get( i ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10
+        ) );
+        Assertions.assertArrayEquals( new double[]{1, 1}, l_return.get( 3 ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10 );
+
+        l_return.clear();
+        new CInvert().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_dense, l_sparse, l_indefinite ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertArrayEquals(
+            DoubleFactory2D.dense.identity( 3 ).vectorize().toArray(),
+            l_dense.zMult( l_return.get( 0 ).<DoubleMatrix2D>raw(), null ).vectorize().toArray(),
+            1e-10
+        );
+        Assertions.assertArrayEquals(
+            DoubleFactory2D.dense.identity( 3 ).vectorize().toArray(),
+            l_dense.zMult( l_return.get( 1 ).<DoubleMatrix2D>raw(), null ).vectorize().toArray(),
+            1e-10
+        );
+        Assertions.assertArrayEquals(
+            DoubleFactory2D.dense.identity( 2 ).vectorize().toArray(),
+            l_indefinite.zMult( l_return.get( 2 ).<DoubleMatrix2D>raw(), null ).vectorize().toArray(),
+            1e-10
+        );
+    }
+
+    /**
+     * test solve with compressed storages
+     */
+    @Test
+    public void solvecompressed()
+    {
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( new double[][]{{0, 2, 1}, {3, 0, 1}, {1, 1, 5}} );
+        final DoubleMatrix2D l_rectangular = new DenseDoubleMatrix2D( new double[][]{{1, 0}, {0, 1}, {0, 0}} );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                new SparseRCDoubleMatrix2D( 3, 3 ).assign( l_matrix ), new DenseDoubleMatrix1D( new double[]{1, 2, 3} ),
+                new SparseCCDoubleMatrix2D( 3, 3 ).assign( l_matrix ), new DenseDoubleMatrix1D( new double[]{1, 2, 3} ),
+                new SparseRCDoubleMatrix2D( 3, 2 ).assign( l_rectangular ), new DenseDoubleMatrix1D( new double[]{1, 2, 0} ),
+                new SparseCCDoubleMatrix2D( 3, 2 ).assign( l_rectangular ), new DenseDoubleMatrix1D( new double[]{1, 2, 0} )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertArrayEquals( new double[]{0.52, 0.28, 0.44}, l_return.get( 0 ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10 );
+        Assertions.assertArrayEquals( new double[]{0.52, 0.28, 0.44}, l_return.get( 1 ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10 );
+        Assertions.assertArrayEquals( new double[]{1, 2}, l_return.get( 2 ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10 );
+        Assertions.assertArrayEquals( new double[]{1, 2}, l_return.get( 3 ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10 );
+    }
+
+    /**
+     * test solve and invert of compressed matrices,
+     * which are not positive-definite
+     */
+    @Test
+    public void solvecompressedindefinite()
+    {
+        final DoubleMatrix2D l_indefinite = new SparseRCDoubleMatrix2D( 2, 2 ).assign( new DenseDoubleMatrix2D( new double[][]{{1, 2}, {2, 1}} ) );
+        final DoubleMatrix2D l_general = new SparseRCDoubleMatrix2D( 3, 3 ).assign( new DenseDoubleMatrix2D( new double[][]{{0, 2, 1}, {3, 0, 1}, {1, 1, 5}} ) );
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_indefinite, new DenseDoubleMatrix1D( new double[]{3, 3} ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CInvert().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_indefinite, l_general ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertArrayEquals( new double[]{1, 1}, l_return.get( 0 ).<DoubleMatrix2D>raw().viewColumn( 0 ).toArray(), 1e-10 );
+        Assertions.assertArrayEquals(
+            new double[]{-1.0 / 3, 2.0 / 3},
+            l_return.get( 1 ).<DoubleMatrix2D>raw().viewRow( 0 ).toArray(),
+            1e-10
+        );
+        Assertions.assertEquals( 0.04, l_return.get( 2 ).<DoubleMatrix2D>raw().getQuick( 0, 0 ), 1e-10 );
+        Assertions.assertArrayEquals(
+            DoubleFactory2D.dense.identity( 3 ).vectorize().toArray(),
+            new DenseDoubleMatrix2D( 3, 3 ).assign( l_general ).zMult( l_return.get( 2 ).<DoubleMatrix2D>raw(), null ).vectorize().toArray(),
+            1e-10
+        );
+    }
+
+    /**
+     * test solve decomposition cache
+     */
+    @Test
+    public void solvecache()
+    {
+        final CDecompositionCache l_cache = new CDecompositionCache( 2 );
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( new double[][]{{2, 6}, {3, 8}} );
+
+        Assertions.assertArrayEquals(
+            new double[]{1.0, 0.0},
+            l_cache.solve( l_matrix, new DenseDoubleMatrix2D( new double[][]{{2}, {3}} ) ).vectorize().toArray(),
+            1e-10
+        );
+        Assertions.assertArrayEquals(
+            new double[]{3.0, 0.0},
+            l_cache.solve( l_matrix, new DenseDoubleMatrix2D( new double[][]{{6}, {9}} ) ).vectorize().toArray(),
+            1e-10
+        );
+        Assertions.assertEquals( 1, l_cache.size() );
+
+        l_matrix.setQuick( 0, 1, 0 );
+        Assertions.assertArrayEquals(
+            new double[]{1.0, 0.0},
+            l_cache.solve( l_matrix, new DenseDoubleMatrix2D( new double[][]{{2}, {3}} ) ).vectorize().toArray(),
+            1e-10
+        );
+        Assertions.assertEquals( 1, l_cache.size() );
+
+        final DoubleMatrix2D l_rectangular = new DenseDoubleMatrix2D( new double[][]{{1, 0}, {0, 1}, {0, 0}} );
+        final DoubleMatrix2D l_identity = new DenseDoubleMatrix2D( new double[][]{{1, 0}, {0, 1}} );
+        Assertions.assertArrayEquals(
+            new double[]{1.0, 2.0},
+            l_cache.solve( l_rectangular, new DenseDoubleMatrix2D( new double[][]{{1}, {2}, {0}} ) ).vectorize().toArray(),
+            1e-10
+        );
+        l_cache.solve( l_identity, new DenseDoubleMatrix2D( 2, 1 ) );
+        Assertions.assertEquals( 2, l_cache.size() );
+
+        Reference.reachabilityFence( l_matrix );
+        Reference.reachabilityFence( l_rectangular );
+        Reference.reachabilityFence( l_identity );
+    }
+
+    /**
+     * test iterative solve
+     */
+    @Test
+    public void iterativesolve()
+    {
+        final DoubleMatrix2D l_matrix = new SparseDoubleMatrix2D( 100, 100 );
+        IntStream.range( 0, 100 ).forEach( i ->
+        {
+            l_matrix.setQuick( i, i, 4 );
+            if ( i > 0 )
+                l_matrix.setQuick( i, i - 1, -1 );
+            if ( i < 99 )
+                l_matrix.setQuick( i, i + 1, -1 );
+        } );
+        final DoubleMatrix1D l_rhs = l_matrix.zMult( new DenseDoubleMatrix1D( 100 ).assign( 1 ), null );
+        final double[] l_expected = new DenseDoubleMatrix1D( 100 ).assign( 1 ).toArray();
+
+        Stream.of(
+            Stream.of( "cg" ),
+            Stream.of( "cg", "jacobi" ),
+            Stream.of( "bicgstab", "ilu" ),
+            Stream.of( "GMRES", "none" )
+        ).forEach( i ->
+        {
+            final List<ITerm> l_return = new ArrayList<>();
+            new CIterativeSolve().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.concat( i, Stream.of( 1000, 1e-10, l_matrix, l_rhs, new SparseRCDoubleMatrix2D( 100, 100 ).assign( l_matrix ), l_rhs ) )
+                      .map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+
+            Assertions.assertEquals( 8, l_return.size() );
+            Assertions.assertArrayEquals( l_expected, l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), 1e-8 );
+            Assertions.assertArrayEquals( l_expected, l_return.get( 4 ).<DoubleMatrix1D>raw().toArray(), 1e-8 );
+            Assertions.assertTrue( l_return.get( 1 ).<Number>raw().intValue() < 1000 );
+            Assertions.assertTrue( l_return.get( 2 ).<Number>raw().doubleValue() < 1e-8 );
+            Assertions.assertTrue( l_return.get( 3 ).<Boolean>raw() );
+            Assertions.assertTrue( l_return.get( 7 ).<Boolean>raw() );
+        } );
+
+        final List<ITerm> l_return = new ArrayList<>();
+        new CIterativeSolve().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "cg", 2, 1e-10, l_matrix, l_rhs ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertEquals( 2, l_return.get( 1 ).<Number>raw().intValue() );
+        Assertions.assertTrue( l_return.get( 2 ).<Number>raw().doubleValue() > 1e-10 );
+        Assertions.assertFalse( l_return.get( 3 ).<Boolean>raw() );
+
+        Stream.of(
+            Stream.of( "lu", 10, 1e-10, l_matrix, l_rhs ),
+            Stream.of( "cg", "jacobi", 10, 1e-10, l_matrix ),
+            Stream.of( "cg", 10, 1e-10, l_matrix, l_rhs, l_matrix ),
+            Stream.of( "cg", 10, 1e-10, l_rhs, l_matrix )
+        ).forEach( i -> Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                                 () -> new CIterativeSolve().execute(
+                                                     false, IContext.EMPTYPLAN,
+                                                     i.map( CRawTerm::of ).collect( Collectors.toList() ),
+                                                     Collections.emptyList()
+                                                 ) ) );
+    }
+
+    /**
+     * test solve decomposition cache removes released matrices
+     */
+    @Test
+    public void solvecacheremove()
+    {
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( new double[][]{{2, 6}, {3, 8}} );
+        final DoubleMatrix2D l_other = new DenseDoubleMatrix2D( new double[][]{{4, 1}, {1, 3}} );
+        final DoubleMatrix2D l_rhs = new DenseDoubleMatrix2D( new double[][]{{2}, {3}} );
+
+        final CDecompositionCache l_cache = new CDecompositionCache( 2 );
+        l_cache.solve( l_matrix, l_rhs );
+        l_cache.solve( l_other, l_rhs );
+        Assertions.assertEquals( 2, l_cache.size() );
+
+        l_cache.remove( l_matrix );
+        Assertions.assertEquals( 1, l_cache.size() );
+        l_cache.remove( l_matrix );
+        Assertions.assertEquals( 1, l_cache.size() );
+
+        Assertions.assertArrayEquals( new double[]{1, 0}, l_cache.solve( l_matrix, l_rhs ).vectorize().toArray(), 1e-10 );
+        Assertions.assertEquals( 2, l_cache.size() );
+
+        final CDecompositionCache l_disabled = new CDecompositionCache( 0 );
+        Assertions.assertArrayEquals( new double[]{1, 0}, l_disabled.solve( l_matrix, l_rhs ).vectorize().toArray(), 1e-10 );
+        Assertions.assertEquals( 0, l_disabled.size() );
+    }
+
     /**
      * test perron-frobenius
      */
@@ -424,6 +775,127 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
         Assertions.assertArrayEquals( new double[]{0.614167, 0.613706, 0.496149}, l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), 0.1 );
     }
 
+    /**
+     * test perron-frobenius with tolerance
+     */
+    @Test
+    public void perronfrobeniustolerance()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( new double[][]{{0.1, 0.5, 0.3}, {0.5, 0.1, 0.3}, {0.3, 0.3, 0.1}} );
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1000, 1e-10, l_matrix, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 6, l_return.size() );
+        Assertions.assertArrayEquals( new double[]{0.613937, 0.613937, 0.496149}, l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), 0.0001 );
+        Assertions.assertTrue( l_return.get( 1 ).<Number>raw().doubleValue() < 1000 );
+        Assertions.assertEquals( 0.842443, l_return.get( 2 ).<Number>raw().doubleValue(), 0.0001 );
+        Assertions.assertArrayEquals( l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), l_return.get( 3 ).<DoubleMatrix1D>raw().toArray(), 1e-8 );
+    }
+
+    /**
+     * test perron-frobenius on sparse matrices
+     */
+    @Test
+    public void perronfrobeniussparse()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final double[][] l_matrix = {{0, 0.5, 0.3}, {0.5, 0, 0}, {0.3, 0, 0.1}};
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                1000, 1e-10,
+                new DenseDoubleMatrix2D( l_matrix ), new SparseDoubleMatrix2D( l_matrix ),
+                new SparseRCDoubleMatrix2D( l_matrix ), new SparseCCDoubleMatrix2D( l_matrix )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 12, l_return.size() );
+        IntStream.range( 1, 4 ).forEach( i ->
+        {
+            Assertions.assertArrayEquals( l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), l_return.get( 3 * i ).<DoubleMatrix1D>raw().toArray(), 1e-8 );
+            Assertions.assertEquals( l_return.get( 2 ).<Number>raw().doubleValue(), l_return.get( 3 * i + 2 ).<Number>raw().doubleValue(), 1e-8 );
+        } );
+    }
+
+    /**
+     * test perron-frobenius with seed and initial vector
+     */
+    @Test
+    public void perronfrobeniusinitial()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( new double[][]{{0.1, 0.5, 0.3}, {0.5, 0.1, 0.3}, {0.3, 0.3, 0.1}} );
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 3, "seed", 42, l_matrix, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 3, "seed", 42, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertArrayEquals( l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), l_return.get( 2 ).<DoubleMatrix1D>raw().toArray() );
+        l_return.clear();
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 3, 0, "Seed", 42, l_matrix, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 3, 0, "seed", 42, l_matrix ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 9, l_return.size() );
+        Assertions.assertArrayEquals( l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), l_return.get( 6 ).<DoubleMatrix1D>raw().toArray() );
+
+        Stream.of(
+            Stream.of( 3, "start", 42, l_matrix ),
+            Stream.of( 3, "seed", l_matrix )
+        ).forEach( i -> Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                                 () -> new CPerronFrobenius().execute(
+                                                     false, IContext.EMPTYPLAN,
+                                                     i.map( CRawTerm::of ).collect( Collectors.toList() ),
+                                                     Collections.emptyList()
+                                                 ) ) );
+
+        final DoubleMatrix1D l_initial = new DenseDoubleMatrix1D( new double[]{0.613937, 0.613937, 0.496149} );
+        l_return.clear();
+
+        new CPerronFrobenius().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1000, 1e-5, l_matrix, l_initial ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertEquals( 1, l_return.get( 1 ).<Number>raw().intValue() );
+        Assertions.assertArrayEquals( new double[]{0.613937, 0.613937, 0.496149}, l_initial.toArray() );
+
+        Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                 () -> new CPerronFrobenius().execute(
+                                     false, IContext.EMPTYPLAN,
+                                     Stream.of( 1000, 1e-5, l_matrix, new DenseDoubleMatrix1D( 2 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                     Collections.emptyList()
+                                 )
+        );
+    }
+
     /**
      * test assign scalar
      */
@@ -484,6 +956,67 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test lambda streaming of storages and views
+     * in the column-major order of the vectorized matrix
+     */
+    @Test
+    public void lambdastorage()
+    {
+        final Random l_random = new Random( 7 );
+        final DoubleMatrix2D l_matrix = new DenseDoubleMatrix2D( 5, 11 ).assign( i -> l_random.nextDouble() );
+
+        Stream.of(
+            l_matrix,
+            l_matrix.viewDice(),
+            l_matrix.viewPart( 1, 2, 3, 9 ),
+            new SparseDoubleMatrix2D( l_matrix.toArray() ),
+            new SparseRCDoubleMatrix2D( l_matrix.toArray() )
+        ).forEach( i -> Assertions.assertArrayEquals(
+            Arrays.stream( i.vectorize().toArray() ).boxed().toArray(),
+            new CLambdaStreaming().apply( i ).toArray()
+        ) );
+    }
+
+    /**
+     * test nonzero entries streaming
+     */
+    @Test
+    public void entries()
+    {
+        final double[][] l_values = {{0, 2, 0}, {3, 0, 4}};
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CEntries().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of(
+                new DenseDoubleMatrix2D( l_values ),
+                new SparseDoubleMatrix2D( l_values ),
+                new SparseRCDoubleMatrix2D( l_values ),
+                new SparseCCDoubleMatrix2D( l_values )
+            ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        IntStream.range( 0, 3 ).forEach( i -> Assertions.assertEquals(
+            Arrays.asList( Arrays.asList( 0.0, 1.0, 2.0 ), Arrays.asList( 1.0, 0.0, 3.0 ), Arrays.asList( 1.0, 2.0, 4.0 ) ),
+            new CNonZeroLambdaStreaming().apply( l_return.get( i ).raw() ).collect( Collectors.toList() )
+        ) );
+        Assertions.assertEquals(
+            Arrays.asList( Arrays.asList( 1.0, 0.0, 3.0 ), Arrays.asList( 0.0, 1.0, 2.0 ), Arrays.asList( 1.0, 2.0, 4.0 ) ),
+            new CNonZeroLambdaStreaming().apply( l_return.get( 3 ).raw() ).collect( Collectors.toList() )
+        );
+
+        final SparseRCDoubleMatrix2D l_large = new SparseRCDoubleMatrix2D(
+            100000, 100000, new int[]{5, 70000, 99999}, new int[]{99999, 3, 0}, new double[]{1, 2, 3}, false, false, false
+        );
+        Assertions.assertEquals(
+            Arrays.asList( Arrays.asList( 5.0, 99999.0, 1.0 ), Arrays.asList( 70000.0, 3.0, 2.0 ), Arrays.asList( 99999.0, 0.0, 3.0 ) ),
+            new CNonZeroLambdaStreaming().apply( new CNonZeroEntries( l_large ) ).collect( Collectors.toList() )
+        );
+    }
+
     /**
      * test assign matrix
      */
@@ -568,6 +1101,34 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test parse with different row length and storage types
+     */
+    @Test
+    public void parsestorage()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        Stream.of( "dense", "sparse", "sparse_row", "sparse_column" )
+              .forEach( i -> new CParse().execute(
+                  false, IContext.EMPTYPLAN,
+                  Stream.of( "0 1.5e1, 0; -2;; 0\t0 3;", i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                  l_return
+              ) );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof DenseDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof SparseDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof SparseRCDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 3 ).raw() instanceof SparseCCDoubleMatrix2D );
+
+        l_return.forEach( i -> Assertions.assertArrayEquals(
+            new double[][]{{0.0, 15.0, 0.0}, {-2.0, 0.0, 0.0}, {0.0, 0.0, 0.0}, {0.0, 0.0, 3.0}},
+            i.<DoubleMatrix2D>raw().toArray()
+        ) );
+        l_return.stream().skip( 1 ).forEach( i -> Assertions.assertEquals( 3, i.<DoubleMatrix2D>raw().cardinality() ) );
+    }
+
     /**
      * test invert
      */
@@ -615,6 +1176,64 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
         );
     }
 
+    /**
+     * test decomposition-based actions with compressed storages
+     */
+    @Test
+    public void compresseddecomposition()
+    {
+        final DoubleMatrix2D l_dense = new DenseDoubleMatrix2D( new double[][]{{0, 2, 1}, {3, 0, 1}, {1, 1, 5}} );
+
+        Stream.of( CDeterminant.class, CRank.class, CCondition.class, CTwoNorm.class, CEigen.class, CSingularValue.class ).forEach( i ->
+        {
+            final List<ITerm> l_return = new ArrayList<>();
+            try
+            {
+                i.getConstructor().newInstance().execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( l_dense, new SparseRCDoubleMatrix2D( 3, 3 ).assign( l_dense ), new SparseCCDoubleMatrix2D( 3, 3 ).assign( l_dense ) )
+                          .map( CRawTerm::of ).collect( Collectors.toList() ),
+                    l_return
+                );
+            }
+            catch ( final ReflectiveOperationException l_exception )
+            {
+                Assertions.fail( l_exception );
+            }
+
+            Assertions.assertEquals( 0, l_return.size() % 3, i.getSimpleName() );
+            final int l_size = l_return.size() / 3;
+            IntStream.range( 0, l_size ).forEach( j ->
+            {
+                Assertions.assertEquals( TestCActionMathBlasMatrix.flat( l_return.get( j ) ), TestCActionMathBlasMatrix.flat( l_return.get( j + l_size ) ), i.getSimpleName() );
+                Assertions.assertEquals( TestCActionMathBlasMatrix.flat( l_return.get( j ) ), TestCActionMathBlasMatrix.flat( l_return.get( j + 2 * l_size ) ), i.getSimpleName() );
+            } );
+        } );
+
+        final List<ITerm> l_determinant = new ArrayList<>();
+        new CDeterminant().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new SparseRCDoubleMatrix2D( 3, 3 ).assign( l_dense ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_determinant
+        );
+        Assertions.assertEquals( -25, l_determinant.get( 0 ).<Number>raw().doubleValue(), 1e-10 );
+    }
+
+    /**
+     * returns the elements of a result term as list
+     *
+     * @param p_term term
+     * @return element list
+     */
+    private static List<Double> flat( final ITerm p_term )
+    {
+        if ( p_term.raw() instanceof DoubleMatrix2D )
+            return Arrays.stream( p_term.<DoubleMatrix2D>raw().vectorize().toArray() ).boxed().collect( Collectors.toList() );
+        if ( p_term.raw() instanceof DoubleMatrix1D )
+            return Arrays.stream( p_term.<DoubleMatrix1D>raw().toArray() ).boxed().collect( Collectors.toList() );
+        return Collections.singletonList( p_term.<Number>raw().doubleValue() );
+    }
+
     /**
      * test singularvalue
      */
@@ -741,6 +1360,45 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
                  .forEach( i -> Assertions.assertEquals( 0, i, 1e-10 ) );
     }
 
+    /**
+     * test symmetric normalized graph laplacian
+     */
+    @Test
+    public void normalizedgraphlaplaciansymmetric()
+    {
+        final DoubleMatrix2D l_adjacency = new SparseDoubleMatrix2D( new double[][]{
+            {0, 1, 0, 1, 0},
+            {1, 0, 1, 1, 0},
+            {0, 1, 0, 0, 0},
+            {1, 1, 0, 0, 0},
+            {0, 0, 0, 0, 0}
+        } );
+        final double[] l_degree = {2, 3, 1, 2, 0};
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CNormalizedGraphLaplacian().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_adjacency, new DenseDoubleMatrix2D( 5, 5 ).assign( l_adjacency ), l_adjacency, "symmetric" )
+                  .map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof SparseDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof DenseDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof SparseDoubleMatrix2D );
+
+        IntStream.range( 0, 5 ).forEach( i -> IntStream.range( 0, 5 ).forEach( j ->
+        {
+            final double l_laplacian = ( i == j ? l_degree[i] : 0 ) - l_adjacency.getQuick( i, j );
+            final double l_symmetric = l_degree[i] == 0 || l_degree[j] == 0 ? 0 : l_laplacian / Math.sqrt( l_degree[i] * l_degree[j] );
+
+            Assertions.assertEquals( l_symmetric, l_return.get( 0 ).<DoubleMatrix2D>raw().getQuick( i, j ), 1e-10 );
+            Assertions.assertEquals( l_symmetric, l_return.get( 1 ).<DoubleMatrix2D>raw().getQuick( i, j ), 1e-10 );
+            Assertions.assertEquals( l_symmetric, l_return.get( 2 ).<DoubleMatrix2D>raw().getQuick( i, j ), 1e-10 );
+        } ) );
+    }
+
     /**
      * test row sum
      */
@@ -867,4 +1525,431 @@ public final class TestCActionMathBlasMatrix extends IBaseTest
                                          .forEach( j -> Assertions.assertEquals( 0, l_result.getQuick( i, j ), 0 ) ) );
     }
 
+
+    /**
+     * test compressed row and column storage
+     */
+    @Test
+    public void compressed()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, 3, "sparse_row" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "0,2;3,0", "sparse_column" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CIdentity().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 3, "sparse_column" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CDiagonal().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new DenseDoubleMatrix1D( new double[]{1, 0, 5} ), "sparse_row" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 4, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof SparseRCDoubleMatrix2D );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<DoubleMatrix2D>raw().columns() );
+
+        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof SparseCCDoubleMatrix2D );
+        Assertions.assertArrayEquals( new double[][]{{0, 2}, {3, 0}}, l_return.get( 1 ).<DoubleMatrix2D>raw().toArray() );
+
+        Assertions.assertTrue( l_return.get( 2 ).raw() instanceof SparseCCDoubleMatrix2D );
+        Assertions.assertArrayEquals( new double[][]{{1, 0, 0}, {0, 1, 0}, {0, 0, 1}}, l_return.get( 2 ).<DoubleMatrix2D>raw().toArray() );
+
+        Assertions.assertTrue( l_return.get( 3 ).raw() instanceof SparseRCDoubleMatrix2D );
+        Assertions.assertEquals( 2, l_return.get( 3 ).<DoubleMatrix2D>raw().cardinality() );
+        Assertions.assertArrayEquals( new double[][]{{1, 0, 0}, {0, 0, 0}, {0, 0, 5}}, l_return.get( 3 ).<DoubleMatrix2D>raw().toArray() );
+    }
+
+    /**
+     * test off-heap matrix
+     */
+    @Test
+    public void offheap()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, 2, "offheap" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "1,2;3,4", "offheap" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof COffHeapDoubleMatrix2D );
+        Assertions.assertTrue( l_return.get( 1 ).raw() instanceof COffHeapDoubleMatrix2D );
+
+        new CSet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 1, 0, 5, l_return.get( 0 ).<DoubleMatrix2D>raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            Collections.emptyList()
+        );
+        new CGet().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 1 ).<DoubleMatrix2D>raw(), 1, 1 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertArrayEquals( new double[][]{{0, 0}, {5, 0}}, l_return.get( 0 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertEquals( 4, l_return.get( 2 ).<Double>raw(), 0 );
+
+        new CMultiply().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 1 ).<DoubleMatrix2D>raw(), l_return.get( 1 ).<DoubleMatrix2D>raw(), l_return.get( 1 ).<DoubleMatrix2D>raw(), MATRIX2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CElementWise().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_return.get( 1 ).<DoubleMatrix2D>raw(), "+", l_return.get( 0 ).<DoubleMatrix2D>raw(), l_return.get( 1 ).<DoubleMatrix2D>raw(), "/", 2 ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 7, l_return.size() );
+        Assertions.assertTrue( l_return.get( 3 ).raw() instanceof COffHeapDoubleMatrix2D );
+        Assertions.assertArrayEquals( new double[][]{{7, 10}, {15, 22}}, l_return.get( 3 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new DenseDoubleMatrix2D( new double[][]{{1, 2}, {3, 4}} ).zMult( MATRIX2, null ).toArray(), l_return.get( 4 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertTrue( l_return.get( 5 ).raw() instanceof COffHeapDoubleMatrix2D );
+        Assertions.assertArrayEquals( new double[][]{{1, 2}, {8, 4}}, l_return.get( 5 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[][]{{0.5, 1}, {1.5, 2}}, l_return.get( 6 ).<DoubleMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new double[][]{{1, 2}, {3, 4}}, l_return.get( 1 ).<DoubleMatrix2D>raw().toArray() );
+
+        Assertions.assertEquals(
+            new CFormat2D().format( new DenseDoubleMatrix2D( new double[][]{{1, 2}, {3, 4}} ) ),
+            new CFormat2D().format( l_return.get( 1 ).<DoubleMatrix2D>raw() )
+        );
+    }
+
+    /**
+     * test serialization of off-heap matrix
+     *
+     * @throws IOException on stream error
+     * @throws ClassNotFoundException on deserialization error
+     */
+    @Test
+    public void offheapserialization() throws IOException, ClassNotFoundException
+    {
+        final DoubleMatrix2D l_matrix = new COffHeapDoubleMatrix2D( 2, 3 ).assign( new double[]{1, 2, 3, 4, 5, 6} );
+
+        final ByteArrayOutputStream l_output = new ByteArrayOutputStream();
+        try ( ObjectOutputStream l_stream = new ObjectOutputStream( l_output ) )
+        {
+            l_stream.writeObject( l_matrix );
+            l_stream.writeObject( l_matrix.viewDice() );
+        }
+
+        try ( ObjectInputStream l_stream = new ObjectInputStream( new ByteArrayInputStream( l_output.toByteArray() ) ) )
+        {
+            final Object l_copy = l_stream.readObject();
+            final DoubleMatrix2D l_view = (DoubleMatrix2D) l_stream.readObject();
+
+            Assertions.assertTrue( l_copy instanceof COffHeapDoubleMatrix2D );
+            Assertions.assertEquals( l_matrix, l_copy );
+            Assertions.assertEquals( 5, ( (DoubleMatrix2D) l_copy ).getQuick( 1, 1 ), 0 );
+            Assertions.assertArrayEquals( new double[][]{{1, 4}, {2, 5}, {3, 6}}, l_view.toArray() );
+        }
+    }
+
+    /**
+     * test single precision matrix
+     */
+    @Test
+    public void singleprecision()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, 3, "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "1,2;3,4", "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof DenseFloatMatrix2D );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<FloatMatrix2D>raw().columns() );
+        Assertions.assertArrayEquals( new float[][]{{1, 2}, {3, 4}}, l_return.get( 1 ).<FloatMatrix2D>raw().toArray() );
+
+        final List<ITerm> l_norm = new ArrayList<>();
+        Stream.of( new COneNorm(), new CInfinityNorm(), new CMatrixNorm(), new CTwoNorm() )
+              .forEach( i -> i.execute( false, IContext.EMPTYPLAN, Stream.of( l_return.get( 1 ) ).collect( Collectors.toList() ), l_norm ) );
+
+        Assertions.assertEquals( 4, l_norm.size() );
+        Assertions.assertEquals( 6, l_norm.get( 0 ).<Double>raw(), 1e-5 );
+        Assertions.assertEquals( 7, l_norm.get( 1 ).<Double>raw(), 1e-5 );
+        Assertions.assertEquals( Math.sqrt( 30 ), l_norm.get( 2 ).<Double>raw(), 1e-5 );
+        Assertions.assertEquals( 5.4649857, l_norm.get( 3 ).<Double>raw(), 1e-5 );
+
+        final List<ITerm> l_generated = new ArrayList<>();
+        new CIdentity().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 2, "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_generated
+        );
+        new CDiagonal().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( new DenseDoubleMatrix1D( new double[]{2, 3} ), "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_generated
+        );
+
+        Assertions.assertEquals( 2, l_generated.size() );
+        Assertions.assertArrayEquals( new float[][]{{1, 0}, {0, 1}}, l_generated.get( 0 ).<FloatMatrix2D>raw().toArray() );
+        Assertions.assertArrayEquals( new float[][]{{2, 0}, {0, 3}}, l_generated.get( 1 ).<FloatMatrix2D>raw().toArray() );
+
+        Stream.of( new CSave(), new CMarketStore() ).forEach( i -> Assertions.assertThrows(
+            CExecutionIllegealArgumentException.class,
+            () -> i.execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( "float.bin", l_return.get( 1 ).<FloatMatrix2D>raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                Collections.emptyList()
+            )
+        ) );
+    }
+
+    /**
+     * test save and load of binary matrices
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void saveload() throws IOException
+    {
+        final double[][] l_values = {{0, 2, 0}, {3, 0, 0}, {0, 0, 7.5}, {1, 0, -1}};
+        final List<DoubleMatrix2D> l_matrices = Stream.of(
+            new DenseDoubleMatrix2D( l_values ),
+            new DenseDoubleMatrix2D( l_values ).viewDice(),
+            new SparseDoubleMatrix2D( l_values ),
+            new SparseRCDoubleMatrix2D( l_values ),
+            new SparseCCDoubleMatrix2D( l_values ),
+            new SparseDoubleMatrix2D( 3, 2 )
+        ).collect( Collectors.toList() );
+
+        final List<Path> l_files = new ArrayList<>();
+        try
+        {
+            for ( int i = 0; i < l_matrices.size(); i++ )
+                l_files.add( Files.createTempFile( "matrix", ".bin" ) );
+
+            new CSave().execute(
+                false, IContext.EMPTYPLAN,
+                IntStream.range( 0, l_matrices.size() )
+                         .boxed()
+                         .flatMap( i -> Stream.of( l_files.get( i ).toString(), l_matrices.get( i ) ) )
+                         .map( CRawTerm::of )
+                         .collect( Collectors.toList() ),
+                Collections.emptyList()
+            );
+
+            final List<ITerm> l_return = new ArrayList<>();
+            new CLoad().execute(
+                false, IContext.EMPTYPLAN,
+                l_files.stream().map( Path::toString ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+
+            Assertions.assertEquals( l_matrices.size(), l_return.size() );
+            Assertions.assertTrue( l_return.get( 0 ).raw() instanceof DenseDoubleMatrix2D );
+            Assertions.assertTrue( l_return.get( 1 ).raw() instanceof DenseDoubleMatrix2D );
+            IntStream.range( 2, l_return.size() ).forEach( i -> Assertions.assertTrue( l_return.get( i ).raw() instanceof SparseRCDoubleMatrix2D ) );
+            IntStream.range( 0, l_return.size() ).forEach( i -> Assertions.assertArrayEquals(
+                l_matrices.get( i ).toArray(),
+                l_return.get( i ).<DoubleMatrix2D>raw().toArray()
+            ) );
+
+            final byte[] l_dense = Files.readAllBytes( l_files.get( 0 ) );
+            final byte[] l_sparse = Files.readAllBytes( l_files.get( 3 ) );
+            final List<byte[]> l_corrupt = Arrays.asList(
+                "1,2;3,4".getBytes( StandardCharsets.UTF_8 ),
+                Arrays.copyOf( l_dense, l_dense.length - Double.BYTES ),
+                corrupt( l_dense, 12, -1 ),
+                corrupt( corrupt( l_dense, 12, 1 << 16 ), 16, 1 << 16 ),
+                corrupt( l_dense, 12, Integer.MAX_VALUE ),
+                Arrays.copyOf( l_sparse, l_sparse.length - Integer.BYTES ),
+                corrupt( l_sparse, 20, Integer.MAX_VALUE ),
+                corrupt( l_sparse, l_sparse.length - Integer.BYTES, 3 ),
+                corrupt( l_sparse, l_sparse.length - 6 * Integer.BYTES, 6 )
+            );
+
+            for ( final byte[] l_bytes : l_corrupt )
+            {
+                Files.write( l_files.get( 0 ), l_bytes );
+                Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                         () -> new CLoad().execute(
+                                             false, IContext.EMPTYPLAN,
+                                             Stream.of( l_files.get( 0 ).toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                             Collections.emptyList()
+                                         )
+                );
+            }
+        }
+        finally
+        {
+            for ( final Path l_file : l_files )
+                Files.deleteIfExists( l_file );
+        }
+    }
+
+    /**
+     * overwrites a little-endian integer of a binary matrix file
+     *
+     * @param p_bytes file content
+     * @param p_offset byte offset
+     * @param p_value value
+     * @return modified copy
+     */
+    private static byte[] corrupt( final byte[] p_bytes, final int p_offset, final int p_value )
+    {
+        final byte[] l_bytes = p_bytes.clone();
+        ByteBuffer.wrap( l_bytes ).order( ByteOrder.LITTLE_ENDIAN ).putInt( p_offset, p_value );
+        return l_bytes;
+    }
+
+    /**
+     * test load and store of matrix market files
+     *
+     * @throws IOException on file error
+     */
+    @Test
+    public void market() throws IOException
+    {
+        final Path l_coordinate = Files.createTempFile( "coordinate", ".mtx" );
+        final Path l_array = Files.createTempFile( "array", ".mtx" );
+        final Path l_store = Files.createTempFile( "store", ".mtx" );
+        try
+        {
+            Files.write( l_coordinate, Arrays.asList(
+                "%%MatrixMarket matrix coordinate real symmetric",
+                "% comment",
+                "3 3 3",
+                "1 1 2.5",
+                "3 1 -1",
+                "2 2 4"
+            ), StandardCharsets.US_ASCII );
+            Files.write( l_array, Arrays.asList(
+                "%%MatrixMarket matrix array integer general",
+                "2 3",
+                "1", "2", "3", "4", "5", "6"
+            ), StandardCharsets.US_ASCII );
+
+            final List<ITerm> l_return = new ArrayList<>();
+            Stream.of( "dense", "sparse", "sparse_row", "sparse_column" )
+                  .forEach( i -> new CMarketLoad().execute(
+                      false, IContext.EMPTYPLAN,
+                      Stream.of( l_coordinate.toString(), i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                      l_return
+                  ) );
+            new CMarketLoad().execute(
+                false, IContext.EMPTYPLAN,
+                Stream.of( l_coordinate.toString(), l_array.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                l_return
+            );
+
+            Assertions.assertEquals( 6, l_return.size() );
+            Assertions.assertTrue( l_return.get( 0 ).raw() instanceof DenseDoubleMatrix2D );
+            Assertions.assertTrue( l_return.get( 1 ).raw() instanceof SparseDoubleMatrix2D );
+            Assertions.assertTrue( l_return.get( 2 ).raw() instanceof SparseRCDoubleMatrix2D );
+            Assertions.assertTrue( l_return.get( 3 ).raw() instanceof SparseCCDoubleMatrix2D );
+            Assertions.assertTrue( l_return.get( 4 ).raw() instanceof SparseDoubleMatrix2D );
+            Assertions.assertTrue( l_return.get( 5 ).raw() instanceof DenseDoubleMatrix2D );
+
+            IntStream.range( 0, 5 ).forEach( i -> Assertions.assertArrayEquals(
+                new double[][]{{2.5, 0, -1}, {0, 4, 0}, {-1, 0, 0}},
+                l_return.get( i ).<DoubleMatrix2D>raw().toArray()
+            ) );
+            Assertions.assertArrayEquals( new double[][]{{1, 3, 5}, {2, 4, 6}}, l_return.get( 5 ).<DoubleMatrix2D>raw().toArray() );
+
+            // duplicate entries are summed on each storage
+            Files.write( l_store, Arrays.asList(
+                "%%MatrixMarket matrix coordinate real general",
+                "2 2 3",
+                "1 1 1",
+                "2 1 4",
+                "1 1 2"
+            ), StandardCharsets.US_ASCII );
+            Stream.of( "dense", "sparse", "sparse_row", "sparse_column" ).forEach( i ->
+            {
+                final List<ITerm> l_load = new ArrayList<>();
+                new CMarketLoad().execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( l_store.toString(), i ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    l_load
+                );
+                Assertions.assertArrayEquals( new double[][]{{3, 0}, {4, 0}}, l_load.get( 0 ).<DoubleMatrix2D>raw().toArray(), i );
+            } );
+
+            // store and load
+            Stream.of( 2, 5 ).forEach( i ->
+            {
+                new CMarketStore().execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( l_store.toString(), l_return.get( i ).<DoubleMatrix2D>raw() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    Collections.emptyList()
+                );
+
+                final List<ITerm> l_load = new ArrayList<>();
+                new CMarketLoad().execute(
+                    false, IContext.EMPTYPLAN,
+                    Stream.of( l_store.toString() ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                    l_load
+                );
+                Assertions.assertArrayEquals( l_return.get( i ).<DoubleMatrix2D>raw().toArray(), l_load.get( 0 ).<DoubleMatrix2D>raw().toArray() );
+            } );
+
+            // unsupported field, oversized and truncated headers
+            Stream.of(
+                Arrays.asList( "%%MatrixMarket matrix coordinate complex general", "1 1 1", "1 1 1 1", "dense" ),
+                Arrays.asList( "%%MatrixMarket matrix array real general", "65536 65536", "1", "dense" ),
+                Arrays.asList( "%%MatrixMarket matrix array real general", "65536 65536", "1", "sparse_row" ),
+                Arrays.asList( "%%MatrixMarket matrix array real symmetric", "100000 100000", "1", "sparse_column" ),
+                Arrays.asList( "%%MatrixMarket matrix array real general", "40000 40000", "1", "sparse_row" ),
+                Arrays.asList( "%%MatrixMarket matrix coordinate real general", "3000000000 1 1", "1 1 1", "sparse" ),
+                Arrays.asList( "%%MatrixMarket matrix coordinate real general", "2 2 1", "1.7 2 3", "dense" ),
+                Arrays.asList( "%%MatrixMarket matrix coordinate real general", "2 2 1", "1 1 1 5", "sparse_row" ),
+                Arrays.asList( "%%MatrixMarket matrix coordinate pattern general", "2 2 1", "1 1 1", "sparse" ),
+                Arrays.asList( "%%MatrixMarket matrix coordinate real general", "2 2.5 1", "1 1 1", "dense" )
+            ).forEach( i ->
+            {
+                try
+                {
+                    Files.write( l_store, i.subList( 0, 3 ), StandardCharsets.US_ASCII );
+                }
+                catch ( final IOException l_exception )
+                {
+                    Assertions.fail( l_exception );
+                }
+
+                Assertions.assertThrows( CExecutionIllegealArgumentException.class,
+                                         () -> new CMarketLoad().execute(
+                                             false, IContext.EMPTYPLAN,
+                                             Stream.of( l_store.toString(), i.get( 3 ) ).map( CRawTerm::of ).collect( Collectors.toList() ),
+                                             Collections.emptyList()
+                                         )
+                );
+            } );
+        }
+        finally
+        {
+            Files.deleteIfExists( l_coordinate );
+            Files.deleteIfExists( l_array );
+            Files.deleteIfExists( l_store );
+        }
+    }
+
 }
@@ -26,6 +26,8 @@ package org.lightjason.agentspeak.action.blas;
 import cern.colt.matrix.AbstractMatrix1D;
 import cern.colt.matrix.tdouble.DoubleMatrix1D;
 import cern.colt.matrix.tdouble.impl.DenseDoubleMatrix1D;
+import cern.colt.matrix.tfloat.FloatMatrix1D;
+import cern.colt.matrix.tfloat.impl.DenseFloatMatrix1D;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -53,6 +55,7 @@ import org.lightjason.agentspeak.testing.IBaseTest;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -200,6 +203,39 @@ public final class TestCActionMathBlasVector extends IBaseTest
         Assertions.assertArrayEquals( Stream.of( 2.0, 5.0, 3.0, 8.0 ).collect( Collectors.toList() ).toArray(), l_tolist.toArray() );
     }
 
+    /**
+     * test tolist view and snapshot
+     */
+    @Test
+    public void tolistsnapshot()
+    {
+        final DoubleMatrix1D l_vector = new DenseDoubleMatrix1D( new double[]{2, 6, 3, 8} );
+        final List<ITerm> l_view = new ArrayList<>();
+        final List<ITerm> l_snapshot = new ArrayList<>();
+
+        new CToList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_view
+        );
+        new CToList().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( l_vector, "snapshot" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_snapshot
+        );
+
+        Assertions.assertEquals( 1, l_view.size() );
+        Assertions.assertEquals( 1, l_snapshot.size() );
+
+        l_vector.setQuick( 2, 5 );
+        Assertions.assertEquals( Arrays.asList( 2.0, 6.0, 5.0, 8.0 ), l_view.get( 0 ).<List<Double>>raw() );
+        Assertions.assertEquals( Arrays.asList( 2.0, 6.0, 3.0, 8.0 ), l_snapshot.get( 0 ).<List<Double>>raw() );
+
+        Assertions.assertThrows( UnsupportedOperationException.class, () -> l_view.get( 0 ).<List<Double>>raw().set( 0, 1.0 ) );
+        l_snapshot.get( 0 ).<List<Double>>raw().set( 0, 1.0 );
+        Assertions.assertEquals( 1.0, l_snapshot.get( 0 ).<List<Double>>raw().get( 0 ) );
+    }
+
     /**
      * test assign scalar
      */
@@ -312,6 +348,59 @@ public final class TestCActionMathBlasVector extends IBaseTest
         Assertions.assertArrayEquals( new double[]{4, 3, 4}, l_return.get( 1 ).<DoubleMatrix1D>raw().toArray(), 0 );
     }
 
+    /**
+     * test parse with seperators and zeros
+     */
+    @Test
+    public void parsestorage()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( " 0, 1.5;-2e2\t0 ,,7 ", "0;3", "sparse" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( " 0, 1.5;-2e2\t0 ,,7 " ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 3, l_return.size() );
+        Assertions.assertArrayEquals( new double[]{0, 1.5, -200, 0, 7}, l_return.get( 0 ).<DoubleMatrix1D>raw().toArray(), 0 );
+        Assertions.assertEquals( 3, l_return.get( 0 ).<DoubleMatrix1D>raw().cardinality() );
+        Assertions.assertArrayEquals( new double[]{0, 3}, l_return.get( 1 ).<DoubleMatrix1D>raw().toArray(), 0 );
+        Assertions.assertArrayEquals( new double[]{0, 1.5, -200, 0, 7}, l_return.get( 2 ).<DoubleMatrix1D>raw().toArray(), 0 );
+    }
+
+    /**
+     * test single precision vector
+     */
+    @Test
+    public void singleprecision()
+    {
+        final List<ITerm> l_return = new ArrayList<>();
+
+        new CCreate().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( 4, "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        new CParse().execute(
+            false, IContext.EMPTYPLAN,
+            Stream.of( "1,2.5,3", "float" ).map( CRawTerm::of ).collect( Collectors.toList() ),
+            l_return
+        );
+
+        Assertions.assertEquals( 2, l_return.size() );
+        Assertions.assertTrue( l_return.get( 0 ).raw() instanceof DenseFloatMatrix1D );
+        Assertions.assertEquals( 4, l_return.get( 0 ).<FloatMatrix1D>raw().size() );
+        Assertions.assertArrayEquals( new float[]{1, 2.5f, 3}, l_return.get( 1 ).<FloatMatrix1D>raw().toArray(), 0 );
+    }
+
     /**
      * test fromlist
      */